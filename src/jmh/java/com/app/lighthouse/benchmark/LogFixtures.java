@@ -0,0 +1,126 @@
+package com.app.lighthouse.benchmark;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+
+import com.app.lighthouse.domain.log.dto.LogEntryDto;
+
+/**
+ * 벤치마크 공용 로그 데이터. 같은 seed 로 만들어 실행마다 내용이 같다.
+ * 10행 중 1행은 ERROR(예외/스택트레이스 포함), 나머지는 HTTP 요청 로그 형태다.
+ */
+public final class LogFixtures {
+
+    /** FULL_COLUMNS 와 같은 순서/이름 */
+    private static final String[] COLUMNS = {
+            "ingest_time", "host", "service", "env", "level", "logger", "thread", "message",
+            "http_method", "http_path", "http_status", "response_time_ms",
+            "exception_class", "stack_trace", "raw_event"
+    };
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private static final String STACK_TRACE = """
+            java.lang.IllegalStateException: connection reset
+            \tat com.example.order.OrderClient.call(OrderClient.java:88)
+            \tat com.example.order.OrderService.place(OrderService.java:41)
+            \tat com.example.order.OrderController.create(OrderController.java:27)""";
+
+    private LogFixtures() {}
+
+    public static boolean isError(int i) {
+        return i % 10 == 9;
+    }
+
+    /** i 번째 행의 ingest_time (UTC, ClickHouse 반환값과 같은 기준) */
+    public static LocalDateTime ingestTimeUtc(int i) {
+        return BASE_TIME.plusNanos(i * 1_500_000L);
+    }
+
+    /** LogRepository 가 JDBC 로 읽는 FULL_COLUMNS 결과와 같은 형태의 ResultSet */
+    public static CachedRowSet resultSet(int rows) throws SQLException {
+        RowSetMetaDataImpl meta = new RowSetMetaDataImpl();
+        meta.setColumnCount(COLUMNS.length);
+        for (int c = 0; c < COLUMNS.length; c++) {
+            meta.setColumnName(c + 1, COLUMNS[c]);
+            meta.setColumnLabel(c + 1, COLUMNS[c]);
+            meta.setColumnType(c + 1, switch (COLUMNS[c]) {
+                case "ingest_time" -> Types.TIMESTAMP;
+                case "http_status", "response_time_ms" -> Types.INTEGER;
+                default -> Types.VARCHAR;
+            });
+        }
+
+        CachedRowSet rs = RowSetProvider.newFactory().createCachedRowSet();
+        rs.setMetaData(meta);
+        for (int i = 0; i < rows; i++) {
+            boolean error = isError(i);
+            rs.moveToInsertRow();
+            rs.updateTimestamp("ingest_time", Timestamp.valueOf(ingestTimeUtc(i)));
+            rs.updateString("host", "app-" + (i % 4));
+            rs.updateString("service", "order-api");
+            rs.updateString("env", "prod");
+            rs.updateString("level", error ? "ERROR" : "INFO");
+            rs.updateString("logger", "com.example.order.OrderController");
+            rs.updateString("thread", "http-nio-8080-exec-" + (i % 16));
+            rs.updateString("message", message(i));
+            rs.updateString("http_method", "POST");
+            rs.updateString("http_path", "/api/orders/" + i);
+            rs.updateInt("http_status", error ? 500 : 200);
+            rs.updateInt("response_time_ms", 10 + i % 90);
+            rs.updateString("exception_class", error ? "java.lang.IllegalStateException" : "");
+            rs.updateString("stack_trace", error ? STACK_TRACE : "");
+            rs.updateString("raw_event", rawEvent(i));
+            rs.insertRow();
+        }
+        rs.moveToCurrentRow();
+        rs.beforeFirst();
+        return rs;
+    }
+
+    /** 매핑이 끝난 full view 응답 행 (응답 시각은 KST) */
+    public static List<LogEntryDto> entries(int rows) {
+        List<LogEntryDto> entries = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            boolean error = isError(i);
+            entries.add(LogEntryDto.builder()
+                    .ingestTime(ingestTimeUtc(i).plusHours(9))
+                    .host("app-" + (i % 4))
+                    .service("order-api")
+                    .env("prod")
+                    .level(error ? "ERROR" : "INFO")
+                    .logger("com.example.order.OrderController")
+                    .thread("http-nio-8080-exec-" + (i % 16))
+                    .message(message(i))
+                    .httpMethod("POST")
+                    .httpPath("/api/orders/" + i)
+                    .httpStatus(error ? 500 : 200)
+                    .responseTimeMs(10 + i % 90)
+                    .exceptionClass(error ? "java.lang.IllegalStateException" : null)
+                    .stackTrace(error ? STACK_TRACE : null)
+                    .rawEvent(rawEvent(i))
+                    .rowKey("b3JkZXItYXBpfElORk98" + i)
+                    .build());
+        }
+        return entries;
+    }
+
+    private static String message(int i) {
+        return isError(i)
+                ? "order placement failed: orderId=" + i + " upstream=payment-api"
+                : "order placed: orderId=" + i + " items=" + (i % 5 + 1);
+    }
+
+    private static String rawEvent(int i) {
+        return "{\"@timestamp\":\"" + ingestTimeUtc(i) + "Z\",\"service\":\"order-api\",\"message\":\""
+                + message(i) + "\"}";
+    }
+}
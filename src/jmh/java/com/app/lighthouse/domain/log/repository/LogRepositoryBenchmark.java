@@ -0,0 +1,139 @@
+package com.app.lighthouse.domain.log.repository;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.rowset.CachedRowSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.app.lighthouse.benchmark.LogFixtures;
+import com.app.lighthouse.domain.log.dto.LogSearchRequest;
+import com.app.lighthouse.infra.clickhouse.ClickHouseNativeReader;
+
+/**
+ * LogRepository 의 행 단위 hot path.
+ *
+ * <ul>
+ *   <li>mapToLogEntry — JDBC 행 → LogEntryDto (ns/행, {@link #ROWS} 행 단위로 측정)</li>
+ *   <li>readColumns — 같은 컬럼을 읽기만 하는 기준선. mapToLogEntry 와의 차이가 DTO 조립 비용이다</li>
+ *   <li>toSafeLocalDateTime — Timestamp → KST LocalDateTime (ns/행)</li>
+ *   <li>appendSearchConditions — 검색 WHERE 절 조립 (호출당)</li>
+ * </ul>
+ *
+ * <p>ResultSet 은 JDK CachedRowSet 이므로 드라이버의 디코딩 비용은 포함되지 않는다.
+ * 할당량은 gc profiler 의 gc.alloc.rate.norm (B/op) 으로 본다.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogRepositoryBenchmark {
+
+    static final int ROWS = 500;
+
+    private static final String SEARCH_PREFIX = "SELECT ingest_time, host, service FROM lighthouse.app_logs WHERE 1=1";
+
+    private LogRepository repository;
+    private CachedRowSet rs;
+    private Timestamp[] timestamps;
+
+    @Setup
+    public void setup() throws SQLException {
+        repository = new LogRepository(new JdbcTemplate(),
+                new DefaultListableBeanFactory().getBeanProvider(ClickHouseNativeReader.class));
+        rs = LogFixtures.resultSet(ROWS);
+
+        timestamps = new Timestamp[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            timestamps[i] = Timestamp.valueOf(LogFixtures.ingestTimeUtc(i));
+        }
+    }
+
+    /** 검색 조건 조합. 조건 수에 따라 appendSearchConditions 만 파라미터화한다. */
+    @State(Scope.Thread)
+    public static class SearchState {
+
+        /** range: 시간 범위만, filtered: 모든 필터 + ngram 키워드 */
+        @Param({"range", "filtered"})
+        public String conditions;
+
+        LogSearchRequest request;
+
+        @Setup
+        public void setup() {
+            request = new LogSearchRequest();
+            request.setFrom(LocalDateTime.of(2026, 1, 1, 0, 0));
+            request.setTo(LocalDateTime.of(2026, 1, 2, 0, 0));
+            if ("filtered".equals(conditions)) {
+                request.setService("order-api");
+                request.setHost("app-1");
+                request.setEnv("prod");
+                request.setLevel("error");
+                request.setKeyword("Payment");
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void mapToLogEntry(Blackhole bh) throws SQLException {
+        rs.beforeFirst();
+        while (rs.next()) {
+            bh.consume(repository.mapToLogEntry(rs));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void readColumns(Blackhole bh) throws SQLException {
+        rs.beforeFirst();
+        while (rs.next()) {
+            bh.consume(rs.getTimestamp("ingest_time"));
+            bh.consume(rs.getString("host"));
+            bh.consume(rs.getString("service"));
+            bh.consume(rs.getString("env"));
+            bh.consume(rs.getString("level"));
+            bh.consume(rs.getString("logger"));
+            bh.consume(rs.getString("thread"));
+            bh.consume(rs.getString("message"));
+            bh.consume(rs.getString("http_method"));
+            bh.consume(rs.getString("http_path"));
+            bh.consume(rs.getInt("http_status"));
+            bh.consume(rs.getInt("response_time_ms"));
+            bh.consume(rs.getString("exception_class"));
+            bh.consume(rs.getString("stack_trace"));
+            bh.consume(rs.getString("raw_event"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void toSafeLocalDateTime(Blackhole bh) {
+        for (Timestamp ts : timestamps) {
+            bh.consume(repository.toSafeLocalDateTime(ts));
+        }
+    }
+
+    @Benchmark
+    public String appendSearchConditions(SearchState search) {
+        StringBuilder sql = new StringBuilder(SEARCH_PREFIX);
+        List<Object> params = new ArrayList<>();
+        repository.appendSearchConditions(sql, params, search.request);
+        return sql.toString();
+    }
+}
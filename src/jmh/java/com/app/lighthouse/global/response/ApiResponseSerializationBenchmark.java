@@ -0,0 +1,52 @@
+package com.app.lighthouse.global.response;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.app.lighthouse.benchmark.LogFixtures;
+import com.app.lighthouse.domain.log.dto.LogSearchResponse;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * GET /api/logs 응답(ApiResponse&lt;LogSearchResponse&gt;, full view)의 Jackson 직렬화 (호출당 µs).
+ * 행 수 기준 비용은 결과를 rows 로 나눠 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"50", "500"})
+    public int rows;
+
+    private JsonMapper mapper;
+    private ApiResponse<LogSearchResponse> response;
+
+    @Setup
+    public void setup() {
+        mapper = JsonMapper.builder().build();
+        response = ApiResponse.ok(LogSearchResponse.builder()
+                .logs(LogFixtures.entries(rows))
+                .totalCount(12_345L)
+                .countMode("exact")
+                .page(0)
+                .size(rows)
+                .hasNext(true)
+                .nextCursor("MjAyNi0wMS0wMVQwMDowMDowMHxhcHAtM3wxMjM0NQ")
+                .build());
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return mapper.writeValueAsBytes(response);
+    }
+}
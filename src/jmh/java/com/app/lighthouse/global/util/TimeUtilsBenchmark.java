@@ -0,0 +1,65 @@
+package com.app.lighthouse.global.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.app.lighthouse.benchmark.LogFixtures;
+
+/**
+ * 응답 행마다 호출되는 ZoneId 기반 시간대 변환 (ns/행).
+ * fixedOffset 은 ZoneRules 조회 없이 +09:00 만 더하는 하한 기준선으로, 실제 구현과 비교용이다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimeUtilsBenchmark {
+
+    static final int ROWS = 500;
+
+    private static final ZoneOffset KST_OFFSET = ZoneOffset.ofHours(9);
+
+    private LocalDateTime[] times;
+
+    @Setup
+    public void setup() {
+        times = new LocalDateTime[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            times[i] = LogFixtures.ingestTimeUtc(i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void toKst(Blackhole bh) {
+        for (LocalDateTime t : times) {
+            bh.consume(TimeUtils.toKst(t));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void toUtc(Blackhole bh) {
+        for (LocalDateTime t : times) {
+            bh.consume(TimeUtils.toUtc(t));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void fixedOffset(Blackhole bh) {
+        for (LocalDateTime t : times) {
+            bh.consume(t.atOffset(ZoneOffset.UTC).withOffsetSameInstant(KST_OFFSET).toLocalDateTime());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.app.lighthouse.domain.admin.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.app.lighthouse.domain.admin.dto.QueryStatsDto;
+import com.app.lighthouse.domain.admin.service.QueryStatsService;
+import com.app.lighthouse.global.response.ApiResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/** 운영자 전용 API (SecurityConfig 에서 ADMIN 권한으로 제한) */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final QueryStatsService queryStatsService;
+
+    /** LogRepository 메서드 × 호출 엔드포인트별 ClickHouse 조회 비용 */
+    @GetMapping("/query-stats")
+    public ApiResponse<QueryStatsDto> getQueryStats() {
+        return ApiResponse.ok(queryStatsService.getQueryStats());
+    }
+}
@@ -0,0 +1,48 @@
+package com.app.lighthouse.domain.admin.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class QueryStatsDto {
+
+    /** (메서드, 엔드포인트) 별 누적 통계. 서버 측 read_bytes 내림차순 */
+    private final List<MethodEntry> methods;
+    /** 최근 수집한 쿼리 (최신순) */
+    private final List<QueryEntry> recentQueries;
+
+    @Getter
+    @Builder
+    public static class MethodEntry {
+        private final String method;
+        private final String endpoint;
+        private final long calls;
+        private final long errors;
+        private final double avgMs;
+        private final double maxMs;
+        private final long returnedRows;
+        /** system.query_log 에서 확인한 쿼리 수 (메서드 1회 호출이 여러 쿼리일 수 있음) */
+        private final long serverQueries;
+        private final long readRows;
+        private final long readBytes;
+        private final long maxMemoryBytes;
+    }
+
+    @Getter
+    @Builder
+    public static class QueryEntry {
+        private final String queryId;
+        private final String method;
+        private final String endpoint;
+        private final LocalDateTime finishedAt;
+        private final long durationMs;
+        private final long readRows;
+        private final long readBytes;
+        private final long memoryBytes;
+        private final boolean failed;
+    }
+}
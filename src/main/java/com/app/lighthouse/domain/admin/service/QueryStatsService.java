@@ -0,0 +1,59 @@
+package com.app.lighthouse.domain.admin.service;
+
+import java.util.Comparator;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.app.lighthouse.domain.admin.dto.QueryStatsDto;
+import com.app.lighthouse.infra.clickhouse.ClickHouseQueryStats;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class QueryStatsService {
+
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    private final ClickHouseQueryStats queryStats;
+
+    public QueryStatsDto getQueryStats() {
+        return QueryStatsDto.builder()
+                .methods(queryStats.snapshot().stream()
+                        .sorted(Comparator.comparingLong(ClickHouseQueryStats.MethodStats::readBytes).reversed()
+                                .thenComparing(Comparator.comparingLong(ClickHouseQueryStats.MethodStats::totalNanos).reversed()))
+                        .map(s -> QueryStatsDto.MethodEntry.builder()
+                                .method(s.method())
+                                .endpoint(s.endpoint())
+                                .calls(s.calls())
+                                .errors(s.errors())
+                                .avgMs(s.calls() > 0 ? roundTwo(s.totalNanos() / NANOS_PER_MS / s.calls()) : 0.0)
+                                .maxMs(roundTwo(s.maxNanos() / NANOS_PER_MS))
+                                .returnedRows(s.returnedRows())
+                                .serverQueries(s.serverQueries())
+                                .readRows(s.readRows())
+                                .readBytes(s.readBytes())
+                                .maxMemoryBytes(s.maxMemoryUsage())
+                                .build())
+                        .collect(Collectors.toList()))
+                .recentQueries(queryStats.recent().stream()
+                        .map(q -> QueryStatsDto.QueryEntry.builder()
+                                .queryId(q.queryId())
+                                .method(q.method())
+                                .endpoint(q.endpoint())
+                                .finishedAt(q.finishedAt())
+                                .durationMs(q.durationMs())
+                                .readRows(q.readRows())
+                                .readBytes(q.readBytes())
+                                .memoryBytes(q.memoryUsage())
+                                .failed(q.failed())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private double roundTwo(double val) {
+        return Math.round(val * 100.0) / 100.0;
+    }
+}
@@ -14,12 +14,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.app.lighthouse.domain.application.dto.ApiRouteCreateRequest;
+import com.app.lighthouse.domain.application.dto.ApiRouteResponse;
 import com.app.lighthouse.domain.application.dto.AppStatsResponse;
 import com.app.lighthouse.domain.application.dto.ApplicationCreateRequest;
 import com.app.lighthouse.domain.application.dto.ApplicationDetailResponse;
 import com.app.lighthouse.domain.application.dto.ApplicationListResponse;
 import com.app.lighthouse.domain.application.dto.ApplicationResponse;
 import com.app.lighthouse.domain.application.dto.ApplicationUpdateRequest;
+import com.app.lighthouse.domain.application.service.ApiRouteService;
 import com.app.lighthouse.domain.application.service.ApplicationService;
 import com.app.lighthouse.global.response.ApiResponse;
 
@@ -32,6 +35,7 @@ import lombok.RequiredArgsConstructor;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final ApiRouteService apiRouteService;
 
     // ========== 동기화 ==========
 
@@ -82,4 +86,24 @@ public class ApplicationController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
         return ApiResponse.ok(applicationService.getAppStats(appId, from, to));
     }
+
+    // ========== 경로 템플릿 ==========
+
+    @GetMapping("/{appId}/routes")
+    public ApiResponse<List<ApiRouteResponse>> getRoutes(@PathVariable Long appId) {
+        return ApiResponse.ok(apiRouteService.getRoutes(appId));
+    }
+
+    @PostMapping("/{appId}/routes")
+    public ApiResponse<ApiRouteResponse> createRoute(
+            @PathVariable Long appId,
+            @Valid @RequestBody ApiRouteCreateRequest request) {
+        return ApiResponse.ok(apiRouteService.createRoute(appId, request));
+    }
+
+    @DeleteMapping("/{appId}/routes/{routeId}")
+    public ApiResponse<Void> deleteRoute(@PathVariable Long appId, @PathVariable Long routeId) {
+        apiRouteService.deleteRoute(appId, routeId);
+        return ApiResponse.ok(null, "경로 템플릿이 삭제되었습니다.");
+    }
 }
@@ -0,0 +1,17 @@
+package com.app.lighthouse.domain.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ApiRouteCreateRequest {
+
+    /** 예) /users/{userId}/orders/{orderId} */
+    @NotBlank
+    @Size(max = 500)
+    private String routeTemplate;
+}
@@ -0,0 +1,29 @@
+package com.app.lighthouse.domain.application.dto;
+
+import java.time.LocalDateTime;
+
+import com.app.lighthouse.infra.oracle.ApiRouteRecord;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ApiRouteResponse {
+
+    private final Long routeId;
+    private final Long appId;
+    private final String serviceName;
+    private final String routeTemplate;
+    private final LocalDateTime createdAt;
+
+    public static ApiRouteResponse from(ApiRouteRecord record) {
+        return ApiRouteResponse.builder()
+                .routeId(record.routeId())
+                .appId(record.appId())
+                .serviceName(record.serviceName())
+                .routeTemplate(record.routeTemplate())
+                .createdAt(record.createdAt())
+                .build();
+    }
+}
@@ -14,7 +14,10 @@ public class AppStatsResponse {
     private final long warnCount;
     private final long requestCount;
     private final double avgResponseMs;
+    private final double p50ResponseMs;
+    private final double p90ResponseMs;
     private final double p95ResponseMs;
+    private final double p99ResponseMs;
 
     public static AppStatsResponse from(AppStatsRow row) {
         return AppStatsResponse.builder()
@@ -23,7 +26,10 @@ public class AppStatsResponse {
                 .warnCount(row.warnCount())
                 .requestCount(row.requestCount())
                 .avgResponseMs(row.avgResponseMs())
+                .p50ResponseMs(row.p50ResponseMs())
+                .p90ResponseMs(row.p90ResponseMs())
                 .p95ResponseMs(row.p95ResponseMs())
+                .p99ResponseMs(row.p99ResponseMs())
                 .build();
     }
 }
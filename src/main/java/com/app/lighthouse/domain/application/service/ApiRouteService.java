@@ -0,0 +1,162 @@
+package com.app.lighthouse.domain.application.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.app.lighthouse.domain.application.dto.ApiRouteCreateRequest;
+import com.app.lighthouse.domain.application.dto.ApiRouteResponse;
+import com.app.lighthouse.domain.log.repository.RouteTemplateRepository;
+import com.app.lighthouse.domain.log.repository.row.RouteTemplateRow;
+import com.app.lighthouse.infra.oracle.ApiRouteMapper;
+import com.app.lighthouse.infra.oracle.ApiRouteRecord;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서비스별 HTTP 경로 템플릿 관리.
+ *
+ * <p>템플릿은 Oracle lh_api_route 에 저장하고, ClickHouse 에는 정규식으로 변환해 동기화한다.
+ * 템플릿은 조회 시점에 적용되므로 변경 내용이 재적재 없이 과거 구간의 집계에도 바로 반영된다.
+ * 템플릿에 맞지 않는 경로는 숫자/UUID/hex 세그먼트를 {id} 로 바꾸는 기본 규칙을 따른다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApiRouteService {
+
+    private static final Pattern VARIABLE_SEGMENT = Pattern.compile("\\{[A-Za-z][A-Za-z0-9_]*}");
+    private static final Pattern LITERAL_SEGMENT = Pattern.compile("[^{}?#\\s]+");
+    private static final String REGEX_META = "\\.+*?()|[]{}^$";
+
+    private final ApiRouteMapper apiRouteMapper;
+    private final ApplicationCache applicationCache;
+    private final RouteTemplateRepository routeTemplateRepository;
+
+    /** 마지막으로 ClickHouse 에 반영한 목록. 변경이 없으면 주기 동기화를 건너뛴다. */
+    private volatile List<RouteTemplateRow> lastSynced;
+
+    // ========== 템플릿 CRUD ==========
+
+    public List<ApiRouteResponse> getRoutes(Long appId) {
+        findApplicationOrThrow(appId);
+        return apiRouteMapper.findByAppId(appId).stream()
+                .map(ApiRouteResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    public ApiRouteResponse createRoute(Long appId, ApiRouteCreateRequest request) {
+        findApplicationOrThrow(appId);
+        String template = request.getRouteTemplate().trim();
+        validateTemplate(template);
+
+        if (apiRouteMapper.findByTemplate(appId, template) != null) {
+            throw new IllegalArgumentException("이미 등록된 경로 템플릿입니다: " + template);
+        }
+
+        apiRouteMapper.insert(appId, template);
+        syncQuietly();
+        return ApiRouteResponse.from(apiRouteMapper.findByTemplate(appId, template));
+    }
+
+    public void deleteRoute(Long appId, Long routeId) {
+        ApiRouteRecord route = apiRouteMapper.findById(routeId);
+        if (route == null || !route.appId().equals(appId)) {
+            throw new IllegalArgumentException("경로 템플릿을 찾을 수 없습니다: " + routeId);
+        }
+        apiRouteMapper.delete(routeId);
+        syncQuietly();
+    }
+
+    // ========== ClickHouse 동기화 ==========
+
+    /**
+     * Oracle 템플릿 전체를 ClickHouse 로 반영한다. 직전 반영 목록과 같으면 건너뛴다.
+     *
+     * @return 반영한 템플릿 수, 변경이 없으면 -1
+     */
+    public synchronized int syncTemplates() {
+        List<RouteTemplateRow> templates = apiRouteMapper.findAll().stream()
+                .map(r -> new RouteTemplateRow(r.serviceName(), priorityOf(r.routeTemplate()),
+                        toPattern(r.routeTemplate()), r.routeTemplate()))
+                .toList();
+        if (templates.equals(lastSynced)) {
+            return -1;
+        }
+
+        routeTemplateRepository.replaceAll(templates);
+        lastSynced = templates;
+        log.info("경로 템플릿 동기화 완료: {}개", templates.size());
+        return templates.size();
+    }
+
+    // ========== Private Helpers ==========
+
+    /** Oracle 저장은 완료되었으므로 ClickHouse 반영 실패는 다음 주기 동기화에서 재시도한다. */
+    private void syncQuietly() {
+        try {
+            syncTemplates();
+        } catch (Exception e) {
+            log.warn("경로 템플릿 동기화 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    private void findApplicationOrThrow(Long appId) {
+        if (applicationCache.findById(appId) == null) {
+            throw new IllegalArgumentException("애플리케이션을 찾을 수 없습니다: " + appId);
+        }
+    }
+
+    private void validateTemplate(String template) {
+        if (!template.startsWith("/")) {
+            throw new IllegalArgumentException("경로 템플릿은 / 로 시작해야 합니다: " + template);
+        }
+        for (String segment : segments(template)) {
+            if (!VARIABLE_SEGMENT.matcher(segment).matches() && !LITERAL_SEGMENT.matcher(segment).matches()) {
+                throw new IllegalArgumentException(
+                        "경로 템플릿 세그먼트는 고정 문자열 또는 {이름} 형식이어야 합니다: " + segment);
+            }
+        }
+    }
+
+    /** /users/{id}/orders → ^/users/[^/]+/orders/?$ (ClickHouse match() 용 RE2 정규식) */
+    private String toPattern(String template) {
+        List<String> segments = segments(template);
+        if (segments.isEmpty()) {
+            return "^/$";
+        }
+
+        StringBuilder pattern = new StringBuilder("^");
+        for (String segment : segments) {
+            pattern.append('/');
+            if (VARIABLE_SEGMENT.matcher(segment).matches()) {
+                pattern.append("[^/]+");
+            } else {
+                segment.chars().forEach(c -> {
+                    if (REGEX_META.indexOf(c) >= 0) {
+                        pattern.append('\\');
+                    }
+                    pattern.append((char) c);
+                });
+            }
+        }
+        return pattern.append("/?$").toString();
+    }
+
+    /** 고정 세그먼트가 많은(더 구체적인) 템플릿이 먼저 매칭되도록 작은 값을 준다. */
+    private int priorityOf(String template) {
+        return (int) -segments(template).stream()
+                .filter(s -> !VARIABLE_SEGMENT.matcher(s).matches())
+                .count();
+    }
+
+    private List<String> segments(String template) {
+        return Arrays.stream(template.split("/"))
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.app.lighthouse.domain.application.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.lighthouse.global.cache.BoundedTtlCache;
+import com.app.lighthouse.infra.oracle.ApplicationMapper;
+import com.app.lighthouse.infra.oracle.ApplicationRecord;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Oracle lh_application 조회 read-through 캐시.
+ *
+ * <p>목록/상세/통계 요청마다 Oracle 을 거치지 않도록 id, serviceName, status 별 목록을 보관한다.
+ * 한 레코드가 여러 키에 걸쳐 있으므로 이 인스턴스의 쓰기 이후에는 {@link #invalidateAll()} 로 전체를 비운다.
+ * 다른 인스턴스나 DB 직접 수정으로 바뀐 값은 TTL 이 지나야 반영된다.
+ * 없는 레코드(null)도 캐시하므로 등록 직후에도 반드시 무효화해야 한다.</p>
+ */
+@Component
+public class ApplicationCache implements MeterBinder {
+
+    private final ApplicationMapper applicationMapper;
+    private final BoundedTtlCache<Key, Object> cache;
+    private final Duration ttl;
+
+    public ApplicationCache(ApplicationMapper applicationMapper,
+                            @Value("${app.application-cache.max-entries:1000}") int maxEntries,
+                            @Value("${app.application-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.applicationMapper = applicationMapper;
+        this.cache = new BoundedTtlCache<>("application", maxEntries);
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public ApplicationRecord findById(Long appId) {
+        return (ApplicationRecord) cache.get(new Key("id", appId), ttl,
+                () -> applicationMapper.findById(appId));
+    }
+
+    public ApplicationRecord findByServiceName(String serviceName) {
+        return (ApplicationRecord) cache.get(new Key("service", serviceName), ttl,
+                () -> applicationMapper.findByServiceName(serviceName));
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<ApplicationRecord> findAll(String status) {
+        return (List<ApplicationRecord>) cache.get(new Key("all", status), ttl,
+                () -> List.copyOf(applicationMapper.findAll(status)));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry);
+    }
+
+    private record Key(String kind, Object value) {}
+}
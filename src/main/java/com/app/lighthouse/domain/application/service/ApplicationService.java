@@ -1,5 +1,6 @@
 package com.app.lighthouse.domain.application.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +19,8 @@ import com.app.lighthouse.domain.log.repository.LogRepository;
 import com.app.lighthouse.domain.log.repository.row.AppStatsRow;
 import com.app.lighthouse.domain.log.repository.row.ServerStatusRow;
 import com.app.lighthouse.domain.log.repository.row.ServiceSummaryRow;
+import com.app.lighthouse.domain.log.service.HostRegistry;
+import com.app.lighthouse.infra.clickhouse.ClickHouseQueryExecutor;
 import com.app.lighthouse.infra.oracle.ApplicationMapper;
 import com.app.lighthouse.infra.oracle.ApplicationRecord;
 
@@ -32,31 +35,55 @@ import lombok.extern.slf4j.Slf4j;
 public class ApplicationService {
 
     private final ApplicationMapper applicationMapper;
+    private final ApplicationCache applicationCache;
     private final LogRepository logRepository;
+    private final ClickHouseQueryExecutor queryExecutor;
+    private final HostRegistry hostRegistry;
 
     private static final Set<String> VALID_STATUSES = Set.of("ACTIVE", "INACTIVE");
 
+    private static final int DISCOVERY_LOOKBACK_HOURS = 24;
+    private static final Duration DISCOVERY_OVERLAP = Duration.ofMinutes(5);
+    /** MERGE 한 번에 넣는 service 수 (USING 절 bind 변수 수 제한) */
+    private static final int DISCOVERY_BATCH_SIZE = 500;
+
+    /** 다음 자동 발견 조회 시작 시각 (UTC). null 이면 아직 한 번도 동기화하지 않음 */
+    private LocalDateTime discoveryWatermark;
+
     // ========== 자동 발견 동기화 ==========
 
     /**
      * ClickHouse 로그 데이터를 기반으로 애플리케이션을 자동 발견/등록한다.
      * 신규 service → lh_application 자동 등록 (display_name = service_name)
+     *
+     * <p>처음에는 최근 24시간을, 이후에는 직전 동기화 시점(watermark)부터만 분 rollup 에서 조회하고,
+     * 캐시된 등록 목록과의 차집합만 한 번의 MERGE 로 등록한다.
+     * 수집 지연을 고려해 watermark 는 동기화 시작 시각보다 DISCOVERY_OVERLAP 만큼 앞에 둔다.</p>
      */
-    public SyncResult syncAll() {
-        LocalDateTime since = TimeUtils.nowUtc().minusHours(24);
+    public synchronized SyncResult syncAll() {
+        LocalDateTime now = TimeUtils.nowUtc();
+        LocalDateTime since = discoveryWatermark != null ? discoveryWatermark : now.minusHours(DISCOVERY_LOOKBACK_HOURS);
         List<String> liveServices = logRepository.getDistinctServices(since);
 
-        int newApps = 0;
+        Set<String> known = applicationCache.findAll(null).stream()
+                .map(ApplicationRecord::serviceName)
+                .collect(Collectors.toSet());
+        List<String> unknown = liveServices.stream()
+                .filter(serviceName -> !known.contains(serviceName))
+                .toList();
 
-        for (String serviceName : liveServices) {
-            ApplicationRecord app = applicationMapper.findByServiceName(serviceName);
-            if (app == null) {
-                applicationMapper.insert(serviceName, serviceName, null);
-                newApps++;
-                log.info("애플리케이션 자동 발견: {}", serviceName);
-            }
+        // 캐시가 오래되어 이미 등록된 service 가 섞여 있어도 MERGE 가 건너뛴다
+        int newApps = 0;
+        for (int i = 0; i < unknown.size(); i += DISCOVERY_BATCH_SIZE) {
+            newApps += applicationMapper.insertMissing(
+                    unknown.subList(i, Math.min(i + DISCOVERY_BATCH_SIZE, unknown.size())));
+        }
+        if (!unknown.isEmpty()) {
+            applicationCache.invalidateAll();
+            log.info("애플리케이션 자동 발견: {}", unknown);
         }
 
+        discoveryWatermark = now.minus(DISCOVERY_OVERLAP);
         log.info("동기화 완료: 신규 애플리케이션 {}개 (전체 스캔 {}개)", newApps, liveServices.size());
         return new SyncResult(newApps, liveServices.size());
     }
@@ -72,12 +99,13 @@ public class ApplicationService {
         }
 
         applicationMapper.insert(request.getServiceName(), request.getDisplayName(), request.getDescription());
+        applicationCache.invalidateAll();
         ApplicationRecord created = applicationMapper.findByServiceName(request.getServiceName());
         return ApplicationResponse.from(created);
     }
 
     public List<ApplicationListResponse> getApplications(String status) {
-        List<ApplicationRecord> records = applicationMapper.findAll(status);
+        List<ApplicationRecord> records = applicationCache.findAll(status);
 
         if (records.isEmpty()) {
             return List.of();
@@ -113,11 +141,20 @@ public class ApplicationService {
         // 최근 1시간 통계
         LocalDateTime now = TimeUtils.nowUtc();
         LocalDateTime from = now.minusHours(1);
-        AppStatsRow statsRow = logRepository.getAppStats(from, now, record.serviceName());
+        AppStatsRow statsRow;
+        List<ServerStatusRow> liveServers;
+        // 서버 현황: host registry 우선, 보관 구간 밖이면 ClickHouse 동적 조회
+        List<ServerStatusRow> registered = hostRegistry.getServerStatuses(from, record.serviceName());
+        try (var fanOut = queryExecutor.fanOut()) {
+            var statsTask = fanOut.fork(() -> logRepository.getAppStats(from, now, record.serviceName()));
+            var serversTask = registered == null
+                    ? fanOut.fork(() -> logRepository.getServerStatusByService(record.serviceName(), from))
+                    : null;
+            statsRow = fanOut.join(statsTask);
+            liveServers = serversTask != null ? fanOut.join(serversTask) : registered;
+        }
         AppStatsResponse stats = statsRow != null ? AppStatsResponse.from(statsRow) : null;
 
-        // 서버 현황 (ClickHouse 동적 조회)
-        List<ServerStatusRow> liveServers = logRepository.getServerStatusByService(record.serviceName(), from);
         List<ApplicationDetailResponse.ServerInfo> servers = liveServers.stream()
                 .map(s -> ApplicationDetailResponse.ServerInfo.builder()
                         .host(s.host())
@@ -141,12 +178,14 @@ public class ApplicationService {
         validateStatus(status);
 
         applicationMapper.update(appId, displayName, description, status);
+        applicationCache.invalidateAll();
         return ApplicationResponse.from(applicationMapper.findById(appId));
     }
 
     public void deleteApplication(Long appId) {
         findApplicationOrThrow(appId);
         applicationMapper.delete(appId);
+        applicationCache.invalidateAll();
     }
 
     // ========== 통계 ==========
@@ -175,7 +214,7 @@ public class ApplicationService {
     // ========== Private Helpers ==========
 
     private ApplicationRecord findApplicationOrThrow(Long appId) {
-        ApplicationRecord record = applicationMapper.findById(appId);
+        ApplicationRecord record = applicationCache.findById(appId);
         if (record == null) {
             throw new IllegalArgumentException("애플리케이션을 찾을 수 없습니다: " + appId);
         }
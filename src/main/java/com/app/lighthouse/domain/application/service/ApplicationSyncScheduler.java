@@ -12,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ApplicationSyncScheduler {
 
     private final ApplicationService applicationService;
+    private final ApiRouteService apiRouteService;
 
     /**
      * 5분마다 ClickHouse 로그 데이터를 스캔하여
@@ -28,4 +29,17 @@ public class ApplicationSyncScheduler {
             log.error("애플리케이션 동기화 중 오류 발생", e);
         }
     }
+
+    /**
+     * Oracle 경로 템플릿을 ClickHouse 로 반영한다.
+     * 기동 직후 한 번 반영하고, 이후에는 변경이 있거나 직전 반영이 실패한 경우에만 적재한다.
+     */
+    @Scheduled(fixedDelayString = "${app.sync.interval-ms:300000}", initialDelay = 10000)
+    public void scheduledRouteTemplateSync() {
+        try {
+            apiRouteService.syncTemplates();
+        } catch (Exception e) {
+            log.error("경로 템플릿 동기화 중 오류 발생", e);
+        }
+    }
 }
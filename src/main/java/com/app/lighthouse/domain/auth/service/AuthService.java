@@ -11,6 +11,7 @@ import com.app.lighthouse.domain.auth.dto.RefreshRequest;
 import com.app.lighthouse.domain.auth.dto.TokenResponse;
 import com.app.lighthouse.infra.security.JwtProperties;
 import com.app.lighthouse.infra.security.JwtTokenProvider;
+import com.app.lighthouse.infra.security.VerifiedToken;
 
 import lombok.RequiredArgsConstructor;
 
@@ -45,12 +46,12 @@ public class AuthService {
     public TokenResponse refresh(RefreshRequest request) {
         String refreshToken = request.getRefreshToken();
 
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        VerifiedToken verified = jwtTokenProvider.verify(refreshToken);
+        if (verified == null) {
             throw new IllegalArgumentException("유효하지 않거나 만료된 리프레시 토큰입니다.");
         }
 
-        String username = jwtTokenProvider.getUsernameFromToken(refreshToken);
-        String newAccessToken = jwtTokenProvider.generateAccessTokenFromUsername(username);
+        String newAccessToken = jwtTokenProvider.generateAccessTokenFromUsername(verified.subject());
 
         return TokenResponse.builder()
                 .accessToken(newAccessToken)
@@ -1,7 +1,9 @@
 package com.app.lighthouse.domain.auth.service;
 
+import java.time.Duration;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,34 +11,58 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.app.lighthouse.global.cache.BoundedTtlCache;
 import com.app.lighthouse.infra.oracle.UserMapper;
 import com.app.lighthouse.infra.oracle.UserRecord;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 인증된 API 요청마다 JWT 필터가 호출하므로 사용자 레코드를 짧은 TTL 로 캐시한다.
+ * 존재하지 않는 사용자는 캐시하지 않는다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, MeterBinder {
 
     private final UserMapper userMapper;
+    private final BoundedTtlCache<String, UserRecord> users;
+    private final Duration ttl;
+
+    public CustomUserDetailsService(UserMapper userMapper,
+                                    @Value("${app.user-cache.max-entries:1000}") int maxEntries,
+                                    @Value("${app.user-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.userMapper = userMapper;
+        this.users = new BoundedTtlCache<>("user", maxEntries);
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserRecord user = userMapper.findByUsername(username);
-        if (user == null) {
-            // 존재하지 않는 사용자임을 로그에 남기되, 클라이언트에는 구체적 이유를 노출하지 않음
-            log.warn("Login attempt for unknown username: {}", username);
-            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
-        }
+        UserRecord user = users.get(username, ttl, () -> {
+            UserRecord found = userMapper.findByUsername(username);
+            if (found == null) {
+                // 존재하지 않는 사용자임을 로그에 남기되, 클라이언트에는 구체적 이유를 노출하지 않음
+                log.warn("Login attempt for unknown username: {}", username);
+                throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
+            }
+            return found;
+        });
 
         // DB에 저장된 BCrypt-encoded password를 그대로 반환.
         // Spring Security DaoAuthenticationProvider가 passwordEncoder.matches()로 검증.
+        // 인증 후 credentials 가 지워지므로 UserDetails 는 캐시하지 않고 매번 새로 만든다.
         return new User(
                 user.username(),
                 user.password(),
                 List.of(new SimpleGrantedAuthority("ROLE_" + user.role()))
         );
     }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        users.bindTo(registry);
+    }
 }
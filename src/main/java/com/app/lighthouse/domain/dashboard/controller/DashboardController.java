@@ -66,8 +66,9 @@ public class DashboardController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
             @RequestParam(required = false) String interval,
-            @RequestParam(required = false) String service) {
-        return ApiResponse.ok(dashboardService.getErrorTrend(from, to, interval, service));
+            @RequestParam(required = false) String service,
+            @RequestParam(required = false) String fingerprint) {
+        return ApiResponse.ok(dashboardService.getErrorTrend(from, to, interval, service, fingerprint));
     }
 
     @GetMapping("/api-ranking")
@@ -76,8 +77,9 @@ public class DashboardController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
             @RequestParam(required = false) String service,
             @RequestParam(defaultValue = "count") String sortBy,
-            @RequestParam(defaultValue = "20") int limit) {
-        return ApiResponse.ok(dashboardService.getApiRanking(from, to, service, sortBy, limit));
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "exact") String accuracy) {
+        return ApiResponse.ok(dashboardService.getApiRanking(from, to, service, sortBy, limit, accuracy));
     }
 
     @GetMapping("/api-detail")
@@ -85,9 +87,9 @@ public class DashboardController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
             @RequestParam String httpMethod,
-            @RequestParam String httpPath,
+            @RequestParam String httpRoute,
             @RequestParam(required = false) String interval) {
-        return ApiResponse.ok(dashboardService.getApiDetail(from, to, httpMethod, httpPath, interval));
+        return ApiResponse.ok(dashboardService.getApiDetail(from, to, httpMethod, httpRoute, interval));
     }
 
     @GetMapping("/recent-errors")
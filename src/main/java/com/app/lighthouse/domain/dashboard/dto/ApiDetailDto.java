@@ -11,7 +11,7 @@ import lombok.Getter;
 public class ApiDetailDto {
 
     private final String httpMethod;
-    private final String httpPath;
+    private final String httpRoute;
     private final String interval;
     private final List<TimeSlot> timeline;
 
@@ -21,7 +21,10 @@ public class ApiDetailDto {
         private final LocalDateTime time;
         private final long requestCount;
         private final double avgResponseTimeMs;
+        private final double p50ResponseTimeMs;
+        private final double p90ResponseTimeMs;
         private final double p95ResponseTimeMs;
+        private final double p99ResponseTimeMs;
         private final long errorCount;
     }
 }
@@ -2,6 +2,8 @@ package com.app.lighthouse.domain.dashboard.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Builder;
 import lombok.Getter;
 
@@ -10,16 +12,27 @@ import lombok.Getter;
 public class ApiRankingDto {
 
     private final List<ApiEntry> rankings;
+    /** exact | approx (실제 적용된 모드) */
+    private final String accuracy;
+    /**
+     * approx 일 때만 존재. 순위에 포함되지 않은 API 가 가질 수 있는 최대 건수(정렬 기준: 요청 수 또는 5xx 수).
+     * 마지막 순위 값이 이보다 크면 순위는 정확하다. 0 이면 모든 API 가 후보에 포함되었다.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long errorBound;
     private final String periodDescription;
 
     @Getter
     @Builder
     public static class ApiEntry {
         private final String httpMethod;
-        private final String httpPath;
+        private final String httpRoute;
         private final long requestCount;
         private final double avgResponseTimeMs;
+        private final double p50ResponseTimeMs;
+        private final double p90ResponseTimeMs;
         private final double p95ResponseTimeMs;
+        private final double p99ResponseTimeMs;
         private final long errorCount;
         private final double errorRate;
     }
@@ -1,10 +1,12 @@
 package com.app.lighthouse.domain.dashboard.dto;
 
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 @Getter
 @Builder
+@EqualsAndHashCode(exclude = "periodDescription")
 public class DashboardSummaryDto {
 
     private final long totalLogCount;
@@ -16,6 +18,9 @@ public class DashboardSummaryDto {
     private final int totalServiceCount;
     private final long totalRequestCount;
     private final double avgResponseTimeMs;
+    private final double p50ResponseTimeMs;
+    private final double p90ResponseTimeMs;
     private final double p95ResponseTimeMs;
+    private final double p99ResponseTimeMs;
     private final String periodDescription;
 }
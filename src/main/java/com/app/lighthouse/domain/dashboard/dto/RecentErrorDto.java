@@ -16,6 +16,8 @@ public class RecentErrorDto {
     @Getter
     @Builder
     public static class ErrorGroup {
+        /** 정규화된 stack fingerprint (error-trend 의 fingerprint 필터 값) */
+        private final String fingerprint;
         private final String exceptionClass;
         private final String message;
         private final long count;
@@ -0,0 +1,79 @@
+package com.app.lighthouse.domain.dashboard.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.lighthouse.global.cache.BoundedTtlCache;
+import com.app.lighthouse.global.util.TimeUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 대시보드 엔드포인트 결과 캐시.
+ *
+ * <p>조회 구간을 snap 단위로 내림 정렬해 같은 화면을 연 사용자들이 같은 키를 공유하도록 하고,
+ * TTL 은 구간의 끝이 현재 시각에 얼마나 가까운지로 결정한다.
+ * 아직 로그가 유입 중인 구간(settle 이내)은 live TTL(수 초), 닫힌 과거 구간은 historical TTL 을 적용한다.</p>
+ */
+@Component
+public class DashboardCache implements MeterBinder {
+
+    private final BoundedTtlCache<Key, Object> cache;
+    private final Duration snap;
+    private final Duration settle;
+    private final Duration liveTtl;
+    private final Duration historicalTtl;
+
+    public DashboardCache(
+            @Value("${app.dashboard-cache.max-entries:500}") int maxEntries,
+            @Value("${app.dashboard-cache.snap-seconds:10}") long snapSeconds,
+            @Value("${app.dashboard-cache.settle-seconds:120}") long settleSeconds,
+            @Value("${app.dashboard-cache.live-ttl-seconds:10}") long liveTtlSeconds,
+            @Value("${app.dashboard-cache.historical-ttl-seconds:600}") long historicalTtlSeconds) {
+        this.cache = new BoundedTtlCache<>("dashboard", maxEntries);
+        this.snap = Duration.ofSeconds(snapSeconds);
+        this.settle = Duration.ofSeconds(settleSeconds);
+        this.liveTtl = Duration.ofSeconds(liveTtlSeconds);
+        this.historicalTtl = Duration.ofSeconds(historicalTtlSeconds);
+    }
+
+    /** UTC 조회 구간을 snap 경계로 내림 정렬 */
+    public LocalDateTime[] snap(LocalDateTime from, LocalDateTime to) {
+        return new LocalDateTime[]{TimeUtils.floorTo(from, snap), TimeUtils.floorTo(to, snap)};
+    }
+
+    /**
+     * @param endpoint 엔드포인트 식별자 (키 네임스페이스)
+     * @param from     snap 된 UTC 시작 시각
+     * @param to       snap 된 UTC 종료 시각 (TTL 산정 기준)
+     * @param params   interval/service/env 등 나머지 정규화된 파라미터 (null 허용)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String endpoint, LocalDateTime from, LocalDateTime to,
+                     List<?> params, Supplier<T> loader) {
+        Key key = new Key(endpoint, from, to, params);
+        return (T) cache.get(key, ttlFor(to), loader::get);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cache.bindTo(registry);
+    }
+
+    private Duration ttlFor(LocalDateTime to) {
+        LocalDateTime settledBefore = TimeUtils.nowUtc().minus(settle);
+        return to.isAfter(settledBefore) ? liveTtl : historicalTtl;
+    }
+
+    private record Key(String endpoint, LocalDateTime from, LocalDateTime to, List<?> params) {}
+}
@@ -0,0 +1,98 @@
+package com.app.lighthouse.domain.dashboard.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.app.lighthouse.domain.dashboard.dto.DashboardSummaryDto;
+import com.app.lighthouse.global.util.TimeUtils;
+import com.app.lighthouse.infra.websocket.DashboardNotificationService;
+import com.app.lighthouse.infra.websocket.TopicSubscriptionRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대시보드 요약 실시간 푸시.
+ *
+ * <p>구독 중인 destination 을 조회 구간(분)별로 묶어 tick 마다 구간당 한 번만 요약을 계산하고,
+ * 직전에 보낸 값과 달라졌거나 새 구독자가 생긴 destination 에만 전송한다.
+ * 쿼리 비용은 접속한 클라이언트 수가 아니라 서로 다른 구간 수에 비례한다.</p>
+ *
+ * <ul>
+ *   <li>{@code /topic/dashboard} — 최근 60분</li>
+ *   <li>{@code /topic/dashboard/window/{minutes}} — 최근 N분 (1 ~ 1440)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardLiveScheduler {
+
+    private static final String TOPIC_DASHBOARD = "/topic/dashboard";
+    private static final String TOPIC_WINDOW_PREFIX = TOPIC_DASHBOARD + "/window/";
+    private static final int DEFAULT_WINDOW_MINUTES = 60;
+    private static final int MAX_WINDOW_MINUTES = 1440;
+
+    private final DashboardService dashboardService;
+    private final DashboardNotificationService notificationService;
+    private final TopicSubscriptionRegistry subscriptionRegistry;
+
+    private final Map<String, Sent> lastSent = new HashMap<>();
+
+    @Scheduled(fixedDelayString = "${app.dashboard-live.interval-ms:5000}", initialDelay = 5000)
+    public void broadcastSummaries() {
+        Map<String, Long> destinations = subscriptionRegistry.activeDestinations(TOPIC_DASHBOARD);
+        lastSent.keySet().retainAll(destinations.keySet());
+
+        Map<Integer, List<String>> byWindow = new TreeMap<>();
+        destinations.keySet().forEach(destination -> {
+            Integer window = parseWindow(destination);
+            if (window != null) {
+                byWindow.computeIfAbsent(window, k -> new ArrayList<>()).add(destination);
+            }
+        });
+
+        byWindow.forEach((window, targets) -> {
+            DashboardSummaryDto summary;
+            try {
+                summary = dashboardService.getSummary(TimeUtils.nowKst().minusMinutes(window), null);
+            } catch (Exception e) {
+                log.warn("실시간 대시보드 요약 계산 실패: window={}분, {}", window, e.getMessage());
+                return;
+            }
+
+            for (String destination : targets) {
+                long version = destinations.get(destination);
+                Sent previous = lastSent.get(destination);
+                if (previous != null && previous.version() == version && previous.summary().equals(summary)) {
+                    continue;
+                }
+                notificationService.notifyDashboardUpdate(destination, summary);
+                lastSent.put(destination, new Sent(version, summary));
+            }
+        });
+    }
+
+    private Integer parseWindow(String destination) {
+        if (destination.equals(TOPIC_DASHBOARD)) {
+            return DEFAULT_WINDOW_MINUTES;
+        }
+        if (!destination.startsWith(TOPIC_WINDOW_PREFIX)) {
+            return null;
+        }
+        try {
+            int minutes = Integer.parseInt(destination.substring(TOPIC_WINDOW_PREFIX.length()));
+            return (minutes > 0 && minutes <= MAX_WINDOW_MINUTES) ? minutes : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record Sent(long version, DashboardSummaryDto summary) {}
+}
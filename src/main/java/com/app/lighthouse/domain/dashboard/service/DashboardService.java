@@ -2,6 +2,7 @@ package com.app.lighthouse.domain.dashboard.service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -16,10 +17,18 @@ import com.app.lighthouse.domain.dashboard.dto.LogLevelDistributionDto;
 import com.app.lighthouse.domain.dashboard.dto.LogVolumeDto;
 import com.app.lighthouse.domain.dashboard.dto.RecentErrorDto;
 import com.app.lighthouse.domain.dashboard.dto.ServerStatusDto;
+import com.app.lighthouse.domain.log.dto.LogEntryDto;
 import com.app.lighthouse.domain.log.repository.LogRepository;
+import com.app.lighthouse.domain.log.repository.row.ApiRankingRow;
+import com.app.lighthouse.domain.log.repository.row.ApiTopKRow;
+import com.app.lighthouse.domain.log.repository.row.ErrorGroupRow;
 import com.app.lighthouse.domain.log.repository.row.LevelCountRow;
 import com.app.lighthouse.domain.log.repository.row.ServerStatusRow;
+import com.app.lighthouse.domain.log.repository.row.SummaryStatsRow;
+import com.app.lighthouse.domain.log.service.HostRegistry;
+import com.app.lighthouse.domain.log.service.TimelineBucketCache;
 import com.app.lighthouse.global.util.TimeUtils;
+import com.app.lighthouse.infra.clickhouse.ClickHouseQueryExecutor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,11 +37,20 @@ import lombok.RequiredArgsConstructor;
 public class DashboardService {
 
     private final LogRepository logRepository;
+    private final ClickHouseQueryExecutor queryExecutor;
+    private final DashboardCache dashboardCache;
+    private final TimelineBucketCache timelineBucketCache;
+    private final HostRegistry hostRegistry;
 
     private static final int SERVER_ACTIVE_THRESHOLD_MINUTES = 5;
     private static final int MAX_RECENT_MINUTES = 1440;
     private static final int MAX_QUERY_DAYS = 7;
 
+    private static final String ACCURACY_EXACT = "exact";
+    private static final String ACCURACY_APPROX = "approx";
+    /** approx 랭킹에서 sketch 로 추리는 후보 수 = limit * TOPK_OVERSAMPLE */
+    private static final int TOPK_OVERSAMPLE = 3;
+
     private static final Set<String> ALLOWED_INTERVALS = Set.of(
             "1 MINUTE", "5 MINUTE", "15 MINUTE", "30 MINUTE",
             "1 HOUR", "6 HOUR", "1 DAY"
@@ -42,32 +60,42 @@ public class DashboardService {
 
     public DashboardSummaryDto getSummary(LocalDateTime from, LocalDateTime to) {
         LocalDateTime[] range = resolveAndValidate(from, to);
-        from = range[0]; to = range[1];
+        LocalDateTime[] window = dashboardCache.snap(range[0], range[1]);
 
-        long totalCount = logRepository.getTotalLogCount(from, to);
-        long errorCount = logRepository.getErrorLogCount(from, to);
-        long fatalCount = logRepository.getFatalLogCount(from, to);
-        long warnCount = logRepository.getWarnLogCount(from, to);
-        double errorRate = totalCount > 0 ? (double) (errorCount + fatalCount) / totalCount * 100 : 0.0;
+        return dashboardCache.get("summary", window[0], window[1], List.of(),
+                () -> loadSummary(window[0], window[1]));
+    }
 
+    private DashboardSummaryDto loadSummary(LocalDateTime from, LocalDateTime to) {
         LocalDateTime activeThreshold = TimeUtils.nowUtc().minusMinutes(SERVER_ACTIVE_THRESHOLD_MINUTES);
-        int activeServerCount = logRepository.getActiveServerCount(activeThreshold);
-        int serviceCount = logRepository.getServiceCount(from);
-        long requestCount = logRepository.getRequestCount(from, to);
-        double avgResponseTime = logRepository.getAvgResponseTime(from, to);
-        double p95ResponseTime = logRepository.getP95ResponseTime(from, to);
+        SummaryStatsRow stats;
+        int activeServerCount;
+        try (var fanOut = queryExecutor.fanOut()) {
+            var statsTask = fanOut.fork(() -> logRepository.getSummaryStats(from, to));
+            var activeTask = fanOut.fork(() -> logRepository.getActiveServerCount(activeThreshold));
+            stats = fanOut.join(statsTask);
+            activeServerCount = fanOut.join(activeTask);
+        }
+
+        long totalCount = stats.totalCount();
+        long errorCount = stats.errorCount();
+        long fatalCount = stats.fatalCount();
+        double errorRate = totalCount > 0 ? (double) (errorCount + fatalCount) / totalCount * 100 : 0.0;
 
         return DashboardSummaryDto.builder()
                 .totalLogCount(totalCount)
                 .errorCount(errorCount)
                 .fatalCount(fatalCount)
-                .warnCount(warnCount)
+                .warnCount(stats.warnCount())
                 .errorRate(roundTwo(errorRate))
                 .activeServerCount(activeServerCount)
-                .totalServiceCount(serviceCount)
-                .totalRequestCount(requestCount)
-                .avgResponseTimeMs(avgResponseTime)
-                .p95ResponseTimeMs(p95ResponseTime)
+                .totalServiceCount(stats.serviceCount())
+                .totalRequestCount(stats.requestCount())
+                .avgResponseTimeMs(stats.avgResponseTimeMs())
+                .p50ResponseTimeMs(stats.p50ResponseTimeMs())
+                .p90ResponseTimeMs(stats.p90ResponseTimeMs())
+                .p95ResponseTimeMs(stats.p95ResponseTimeMs())
+                .p99ResponseTimeMs(stats.p99ResponseTimeMs())
                 .periodDescription(TimeUtils.toKst(from) + " ~ " + TimeUtils.toKst(to))
                 .build();
     }
@@ -84,7 +112,15 @@ public class DashboardService {
         }
         validateInterval(interval);
 
-        var rows = logRepository.getLogTimeline(from, to, interval, service, env);
+        LocalDateTime[] window = dashboardCache.snap(from, to);
+        String resolvedInterval = interval;
+        return dashboardCache.get("log-volume", window[0], window[1], Arrays.asList(interval, service, env),
+                () -> loadLogVolume(window[0], window[1], resolvedInterval, service, env));
+    }
+
+    private LogVolumeDto loadLogVolume(LocalDateTime from, LocalDateTime to,
+                                       String interval, String service, String env) {
+        var rows = timelineBucketCache.getLogTimeline(from, to, interval, service, env);
 
         List<LogVolumeDto.TimeSlot> points = rows.stream()
                 .map(r -> LogVolumeDto.TimeSlot.builder()
@@ -104,11 +140,20 @@ public class DashboardService {
 
     // ========== 로그 레벨 분포 ==========
 
+    /**
+     * 분/시간 rollup 에서 집계한다. 경계 밖 구간은 raw 로 보정하므로 raw 집계와 같은 정확한 건수다.
+     */
     public LogLevelDistributionDto getLogLevelDistribution(LocalDateTime from, LocalDateTime to,
                                                             String service, String env) {
         LocalDateTime[] range = resolveAndValidate(from, to);
-        from = range[0]; to = range[1];
+        LocalDateTime[] window = dashboardCache.snap(range[0], range[1]);
+
+        return dashboardCache.get("log-level-distribution", window[0], window[1], Arrays.asList(service, env),
+                () -> loadLogLevelDistribution(window[0], window[1], service, env));
+    }
 
+    private LogLevelDistributionDto loadLogLevelDistribution(LocalDateTime from, LocalDateTime to,
+                                                             String service, String env) {
         List<LevelCountRow> rows = logRepository.getLogLevelDistribution(from, to, service, env);
         long total = rows.stream().mapToLong(LevelCountRow::count).sum();
 
@@ -137,9 +182,19 @@ public class DashboardService {
                     "recentMinutes는 1 이상 " + MAX_RECENT_MINUTES + " 이하여야 합니다.");
         }
 
-        LocalDateTime since = TimeUtils.nowUtc().minusMinutes(recentMinutes);
-        List<ServerStatusRow> rows = logRepository.getServerStatusSummary(since);
+        LocalDateTime now = TimeUtils.nowUtc();
+        // host registry 가 보관 중인 구간이면 ClickHouse 조회 없이 메모리에서 계산
+        List<ServerStatusRow> registered = hostRegistry.getServerStatuses(now.minusMinutes(recentMinutes), null);
+        if (registered != null) {
+            return toServerStatuses(registered);
+        }
+
+        LocalDateTime[] window = dashboardCache.snap(now.minusMinutes(recentMinutes), now);
+        return dashboardCache.get("server-status", window[0], window[1], List.of(recentMinutes),
+                () -> toServerStatuses(logRepository.getServerStatusSummary(window[0])));
+    }
 
+    private List<ServerStatusDto> toServerStatuses(List<ServerStatusRow> rows) {
         return rows.stream()
                 .map(r -> {
                     boolean isActive = r.lastLogTime() != null && r.lastLogTime().isAfter(
@@ -160,8 +215,8 @@ public class DashboardService {
 
     // ========== Error Trend ==========
 
-    public ErrorTrendDto getErrorTrend(LocalDateTime from, LocalDateTime to,
-                                        String interval, String service) {
+    public ErrorTrendDto getErrorTrend(LocalDateTime from, LocalDateTime to, String interval,
+                                        String service, String fingerprint) {
         LocalDateTime[] range = resolveAndValidate(from, to);
         from = range[0]; to = range[1];
 
@@ -169,8 +224,20 @@ public class DashboardService {
             interval = resolveInterval(from, to);
         }
         validateInterval(interval);
+        if (fingerprint != null && !fingerprint.isBlank() && !fingerprint.matches("\\d{1,20}")) {
+            throw new IllegalArgumentException("fingerprint 는 숫자여야 합니다: " + fingerprint);
+        }
 
-        var rows = logRepository.getErrorTrend(from, to, interval, service);
+        LocalDateTime[] window = dashboardCache.snap(from, to);
+        String resolvedInterval = interval;
+        return dashboardCache.get("error-trend", window[0], window[1],
+                Arrays.asList(interval, service, fingerprint),
+                () -> loadErrorTrend(window[0], window[1], resolvedInterval, service, fingerprint));
+    }
+
+    private ErrorTrendDto loadErrorTrend(LocalDateTime from, LocalDateTime to, String interval,
+                                         String service, String fingerprint) {
+        var rows = logRepository.getErrorTrend(from, to, interval, service, fingerprint);
 
         List<ErrorTrendDto.ErrorPoint> points = rows.stream()
                 .map(r -> ErrorTrendDto.ErrorPoint.builder()
@@ -188,14 +255,39 @@ public class DashboardService {
 
     // ========== API Ranking ==========
 
+    /**
+     * @param accuracy exact(기본) | approx. approx 는 count/error 정렬에서만 적용되며
+     *                 topK sketch 로 후보를 추린 뒤 후보만 정확히 집계한다 (slow 정렬은 항상 exact).
+     */
     public ApiRankingDto getApiRanking(LocalDateTime from, LocalDateTime to,
-                                        String service, String sortBy, int limit) {
+                                        String service, String sortBy, int limit, String accuracy) {
         LocalDateTime[] range = resolveAndValidate(from, to);
         from = range[0]; to = range[1];
 
-        if (limit <= 0 || limit > 100) limit = 20;
+        int rankingLimit = (limit <= 0 || limit > 100) ? 20 : limit;
+        String mode = resolveAccuracy(accuracy);
+        String resolvedMode = ACCURACY_APPROX.equals(mode) && !"slow".equals(sortBy) ? ACCURACY_APPROX : ACCURACY_EXACT;
+
+        LocalDateTime[] window = dashboardCache.snap(from, to);
+        return dashboardCache.get("api-ranking", window[0], window[1],
+                Arrays.asList(service, sortBy, rankingLimit, resolvedMode),
+                () -> loadApiRanking(window[0], window[1], service, sortBy, rankingLimit, resolvedMode));
+    }
 
-        var rows = logRepository.getApiRanking(from, to, service, sortBy, limit);
+    private ApiRankingDto loadApiRanking(LocalDateTime from, LocalDateTime to,
+                                         String service, String sortBy, int limit, String accuracy) {
+        List<ApiRankingRow> rows;
+        Long errorBound = null;
+        if (ACCURACY_APPROX.equals(accuracy)) {
+            int k = limit * TOPK_OVERSAMPLE;
+            List<ApiTopKRow> candidates = logRepository.getApiTopK(from, to, service, sortBy, k);
+            rows = logRepository.getApiRanking(from, to, service, sortBy, limit, candidates);
+            // sketch 가 가득 찼으면 후보 밖 API 는 최소 후보 추정치 이하, 아니면 모든 키가 후보에 포함됨
+            errorBound = candidates.size() < k ? 0L
+                    : candidates.stream().mapToLong(ApiTopKRow::estimatedCount).min().orElse(0L);
+        } else {
+            rows = logRepository.getApiRanking(from, to, service, sortBy, limit);
+        }
 
         List<ApiRankingDto.ApiEntry> rankings = rows.stream()
                 .map(r -> {
@@ -203,10 +295,13 @@ public class DashboardService {
                             ? (double) r.errorCount() / r.requestCount() * 100 : 0.0;
                     return ApiRankingDto.ApiEntry.builder()
                             .httpMethod(r.httpMethod())
-                            .httpPath(r.httpPath())
+                            .httpRoute(r.httpRoute())
                             .requestCount(r.requestCount())
                             .avgResponseTimeMs(r.avgResponseTimeMs())
+                            .p50ResponseTimeMs(r.p50ResponseTimeMs())
+                            .p90ResponseTimeMs(r.p90ResponseTimeMs())
                             .p95ResponseTimeMs(r.p95ResponseTimeMs())
+                            .p99ResponseTimeMs(r.p99ResponseTimeMs())
                             .errorCount(r.errorCount())
                             .errorRate(roundTwo(errorRate))
                             .build();
@@ -215,6 +310,8 @@ public class DashboardService {
 
         return ApiRankingDto.builder()
                 .rankings(rankings)
+                .accuracy(accuracy)
+                .errorBound(errorBound)
                 .periodDescription(TimeUtils.toKst(from) + " ~ " + TimeUtils.toKst(to))
                 .build();
     }
@@ -222,33 +319,45 @@ public class DashboardService {
     // ========== API Detail ==========
 
     public ApiDetailDto getApiDetail(LocalDateTime from, LocalDateTime to,
-                                      String httpMethod, String httpPath, String interval) {
+                                      String httpMethod, String httpRoute, String interval) {
         LocalDateTime[] range = resolveAndValidate(from, to);
         from = range[0]; to = range[1];
 
-        if (httpMethod == null || httpPath == null) {
-            throw new IllegalArgumentException("httpMethod와 httpPath는 필수입니다.");
+        if (httpMethod == null || httpRoute == null) {
+            throw new IllegalArgumentException("httpMethod와 httpRoute는 필수입니다.");
         }
         if (interval == null || interval.isBlank()) {
             interval = resolveInterval(from, to);
         }
         validateInterval(interval);
 
-        var rows = logRepository.getApiDetail(from, to, httpMethod.toUpperCase(), httpPath, interval);
+        LocalDateTime[] window = dashboardCache.snap(from, to);
+        String method = httpMethod.toUpperCase();
+        String resolvedInterval = interval;
+        return dashboardCache.get("api-detail", window[0], window[1], Arrays.asList(method, httpRoute, interval),
+                () -> loadApiDetail(window[0], window[1], method, httpRoute, resolvedInterval));
+    }
+
+    private ApiDetailDto loadApiDetail(LocalDateTime from, LocalDateTime to,
+                                       String httpMethod, String httpRoute, String interval) {
+        var rows = logRepository.getApiDetail(from, to, httpMethod, httpRoute, interval);
 
         List<ApiDetailDto.TimeSlot> timeline = rows.stream()
                 .map(r -> ApiDetailDto.TimeSlot.builder()
                         .time(r.time())
                         .requestCount(r.requestCount())
                         .avgResponseTimeMs(r.avgResponseTimeMs())
+                        .p50ResponseTimeMs(r.p50ResponseTimeMs())
+                        .p90ResponseTimeMs(r.p90ResponseTimeMs())
                         .p95ResponseTimeMs(r.p95ResponseTimeMs())
+                        .p99ResponseTimeMs(r.p99ResponseTimeMs())
                         .errorCount(r.errorCount())
                         .build())
                 .collect(Collectors.toList());
 
         return ApiDetailDto.builder()
-                .httpMethod(httpMethod.toUpperCase())
-                .httpPath(httpPath)
+                .httpMethod(httpMethod)
+                .httpRoute(httpRoute)
                 .interval(interval)
                 .timeline(timeline)
                 .build();
@@ -259,15 +368,27 @@ public class DashboardService {
     public RecentErrorDto getRecentErrors(LocalDateTime from, LocalDateTime to,
                                             String service, int limit) {
         LocalDateTime[] range = resolveAndValidate(from, to);
-        from = range[0]; to = range[1];
+        LocalDateTime[] window = dashboardCache.snap(range[0], range[1]);
+        int recentLimit = (limit <= 0 || limit > 200) ? 50 : limit;
 
-        if (limit <= 0 || limit > 200) limit = 50;
+        return dashboardCache.get("recent-errors", window[0], window[1], Arrays.asList(service, recentLimit),
+                () -> loadRecentErrors(window[0], window[1], service, recentLimit));
+    }
 
-        var groups = logRepository.getErrorGrouping(from, to, service, 20);
-        var recentLogs = logRepository.getRecentErrors(from, to, service, limit);
+    private RecentErrorDto loadRecentErrors(LocalDateTime from, LocalDateTime to,
+                                            String service, int limit) {
+        List<ErrorGroupRow> groups;
+        List<LogEntryDto> recentLogs;
+        try (var fanOut = queryExecutor.fanOut()) {
+            var groupsTask = fanOut.fork(() -> logRepository.getErrorGrouping(from, to, service, 20));
+            var recentTask = fanOut.fork(() -> logRepository.getRecentErrors(from, to, service, limit));
+            groups = fanOut.join(groupsTask);
+            recentLogs = fanOut.join(recentTask);
+        }
 
         List<RecentErrorDto.ErrorGroup> errorGroups = groups.stream()
                 .map(g -> RecentErrorDto.ErrorGroup.builder()
+                        .fingerprint(g.fingerprint())
                         .exceptionClass(g.exceptionClass())
                         .message(g.message())
                         .count(g.count())
@@ -321,6 +442,17 @@ public class DashboardService {
         return new LocalDateTime[]{from, to};
     }
 
+    private String resolveAccuracy(String accuracy) {
+        if (accuracy == null || accuracy.isBlank()) {
+            return ACCURACY_EXACT;
+        }
+        String mode = accuracy.toLowerCase();
+        if (!mode.equals(ACCURACY_EXACT) && !mode.equals(ACCURACY_APPROX)) {
+            throw new IllegalArgumentException("허용되지 않는 accuracy 값입니다: " + accuracy);
+        }
+        return mode;
+    }
+
     private void validateInterval(String interval) {
         if (!ALLOWED_INTERVALS.contains(interval.toUpperCase())) {
             throw new IllegalArgumentException("허용되지 않는 interval 값입니다: " + interval);
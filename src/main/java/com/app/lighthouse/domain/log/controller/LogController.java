@@ -3,15 +3,24 @@ package com.app.lighthouse.domain.log.controller;
 import java.time.LocalDateTime;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.app.lighthouse.domain.log.dto.LogCountDto;
+import com.app.lighthouse.domain.log.dto.LogEntryDto;
 import com.app.lighthouse.domain.log.dto.LogSearchRequest;
 import com.app.lighthouse.domain.log.dto.LogSearchResponse;
 import com.app.lighthouse.domain.log.dto.LogTimelineDto;
+import com.app.lighthouse.domain.log.service.LogExportFormat;
 import com.app.lighthouse.domain.log.service.LogService;
 import com.app.lighthouse.global.response.ApiResponse;
 
@@ -30,6 +39,35 @@ public class LogController {
         return ApiResponse.ok(logService.searchLogs(request));
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLogs(
+            @ModelAttribute LogSearchRequest request,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "true") boolean gzip) {
+        LogExportFormat exportFormat = LogExportFormat.from(format);
+        StreamingResponseBody body = logService.exportLogs(request, exportFormat, gzip);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("logs." + exportFormat.extension())
+                        .build().toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/count/{searchId}")
+    public ApiResponse<LogCountDto> getDeferredCount(@PathVariable String searchId) {
+        return ApiResponse.ok(logService.getDeferredCount(searchId));
+    }
+
+    @GetMapping("/{key}")
+    public ApiResponse<LogEntryDto> getLog(@PathVariable String key) {
+        return ApiResponse.ok(logService.getLog(key));
+    }
+
     @GetMapping("/timeline")
     public ApiResponse<LogTimelineDto> getTimeline(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
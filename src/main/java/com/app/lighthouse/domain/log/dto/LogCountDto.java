@@ -0,0 +1,17 @@
+package com.app.lighthouse.domain.log.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LogCountDto {
+
+    private final String searchId;
+    /** PENDING, DONE, FAILED */
+    private final String status;
+    private final Long totalCount;
+}
@@ -27,4 +27,9 @@ public class LogEntryDto {
     private final String exceptionClass;
     private final String stackTrace;
     private final String rawEvent;
+
+    /** 상세 조회(GET /api/logs/{key})용 행 키 */
+    private final String rowKey;
+    /** view=summary 에서 message 가 잘렸는지 여부 */
+    private final Boolean messageTruncated;
 }
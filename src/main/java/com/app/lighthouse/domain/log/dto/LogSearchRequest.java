@@ -20,6 +20,15 @@ public class LogSearchRequest {
     private LocalDateTime from;
     private LocalDateTime to;
 
+    /** 이전 응답의 nextCursor. 지정하면 page 대신 keyset 방식으로 다음 페이지를 조회한다. */
+    private String cursor;
+
+    /** 응답 형태: full(기본), summary(stack_trace/raw_event 제외, 메시지 앞부분만) */
+    private String view;
+
+    /** 전체 건수 계산 방식: exact(기본), estimated, deferred */
+    private String countMode;
+
     @Min(0)
     private int page = 0;
 
@@ -2,16 +2,24 @@ package com.app.lighthouse.domain.log.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class LogSearchResponse {
 
     private final List<LogEntryDto> logs;
-    private final long totalCount;
+    /** countMode=deferred 이면 null (searchId 로 별도 조회) */
+    private final Long totalCount;
+    /** exact | estimated | deferred | unavailable (deferred 요청이 백그라운드 큐 포화로 거절됨, searchId 없음) */
+    private final String countMode;
+    private final String searchId;
     private final int page;
     private final int size;
     private final boolean hasNext;
+    private final String nextCursor;
 }
@@ -0,0 +1,14 @@
+package com.app.lighthouse.domain.log.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LogTailDto {
+
+    private final String service;
+    private final List<LogEntryDto> logs;
+}
@@ -0,0 +1,40 @@
+package com.app.lighthouse.domain.log.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 로그 검색 keyset 커서. 정렬 키 (ingest_time DESC, host DESC, row_id DESC) 의 마지막 값.
+ *
+ * <p>클라이언트에는 base64url 로 인코딩된 불투명 문자열로 전달한다.
+ * row_id 는 적재 시 생성한 UUID 라 (ingest_time, host, message) 가 같은 행도 서로 구분된다.</p>
+ *
+ * @param ingestTime UTC ingest_time (밀리초 정밀도)
+ * @param rowId      row_id 의 UUID 문자열
+ */
+public record LogCursor(LocalDateTime ingestTime, String host, String rowId) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = ingestTime.toInstant(ZoneOffset.UTC).toEpochMilli() + SEPARATOR + rowId + SEPARATOR + host;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LogCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            long epochMilli = Long.parseLong(parts[0]);
+            String rowId = UUID.fromString(parts[1]).toString();
+            LocalDateTime ingestTime = LocalDateTime.ofEpochSecond(
+                    Math.floorDiv(epochMilli, 1000), (int) Math.floorMod(epochMilli, 1000) * 1_000_000, ZoneOffset.UTC);
+            return new LogCursor(ingestTime, parts[2], rowId);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("유효하지 않은 cursor 값입니다.");
+        }
+    }
+}
@@ -1,59 +1,275 @@
 package com.app.lighthouse.domain.log.repository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.stereotype.Repository;
 
 import com.app.lighthouse.domain.log.dto.LogEntryDto;
 import com.app.lighthouse.domain.log.dto.LogSearchRequest;
 import com.app.lighthouse.domain.log.repository.row.ApiDetailRow;
 import com.app.lighthouse.domain.log.repository.row.ApiRankingRow;
+import com.app.lighthouse.domain.log.repository.row.ApiTopKRow;
 import com.app.lighthouse.domain.log.repository.row.AppStatsRow;
 import com.app.lighthouse.domain.log.repository.row.ErrorGroupRow;
 import com.app.lighthouse.domain.log.repository.row.ErrorTrendRow;
+import com.app.lighthouse.domain.log.repository.row.HostMinuteRow;
 import com.app.lighthouse.domain.log.repository.row.LevelCountRow;
+import com.app.lighthouse.domain.log.repository.row.LogSearchRow;
 import com.app.lighthouse.domain.log.repository.row.ServerStatusRow;
 import com.app.lighthouse.domain.log.repository.row.ServiceSummaryRow;
+import com.app.lighthouse.domain.log.repository.row.SummaryStatsRow;
 import com.app.lighthouse.domain.log.repository.row.TimelineRow;
 import com.app.lighthouse.global.util.TimeUtils;
+import com.app.lighthouse.infra.clickhouse.ClickHouseNativeReader;
+import com.app.lighthouse.infra.clickhouse.InstrumentedQueries;
+import com.app.lighthouse.infra.clickhouse.QueryContext;
+import com.clickhouse.client.api.data_formats.ClickHouseBinaryFormatReader;
 
 @Repository
+@InstrumentedQueries
 public class LogRepository {
 
     private static final String TABLE = "lighthouse.app_logs";
 
+    /** V4 migration 의 ngrambf_v1 n 값. 이보다 짧은 키워드는 인덱스로 걸러낼 수 없다. */
+    private static final int KEYWORD_NGRAM_SIZE = 4;
+
+    private static final String VIEW_SUMMARY = "summary";
+    private static final int MESSAGE_PREVIEW_LENGTH = 200;
+
+    private static final String FULL_COLUMNS = "ingest_time, host, service, env, level, logger, thread, message," +
+            " http_method, http_path, http_status, response_time_ms," +
+            " exception_class, stack_trace, raw_event";
+
+    /**
+     * 목록용 경량 컬럼: stack_trace/raw_event 제외, 메시지는 앞부분만.
+     * alias 가 WHERE/ORDER BY 의 message 를 가리지 않도록 message_preview 로 둔다.
+     */
+    private static final String SUMMARY_COLUMNS = "ingest_time, host, service, env, level, logger, thread," +
+            " substringUTF8(message, 1, " + MESSAGE_PREVIEW_LENGTH + ") AS message_preview," +
+            " lengthUTF8(message) AS message_length," +
+            " http_method, http_path, http_status, response_time_ms, exception_class";
+
+    /**
+     * 정렬 키 (ingest_time, host) 의 동점 구분자이자 상세 조회 rowKey 의 행 식별자. 적재 시 생성한 UUID(V10)라
+     * 같은 시각·host 에 같은 메시지가 여러 건이어도 페이지 경계에서 건너뛰거나 다른 행을 가리키지 않는다.
+     */
+    private static final String ROW_ID = "row_id";
+
+    /** topK sketch 의 load factor (k * load_factor 개 슬롯을 유지). ClickHouse 기본값과 같다. */
+    private static final int TOPK_LOAD_FACTOR = 3;
+
+    private static final String ROLLUP_KEY_COLUMNS = "service, env, host, level, http_method, http_route";
+
+    /**
+     * 저장된 http_route(기본 {id} 규칙만 적용)에 서비스별 경로 템플릿을 적용한 API 라우트 (V11 migration).
+     * 템플릿은 조회 시점에 적용되므로 rollup/raw 소스 어디서나 같은 식으로 쓴다.
+     */
+    private static final String API_ROUTE = "lighthouseHttpRoute(service, http_route)";
+
+    /** V6 migration 의 latency_digest 분위수. 소스 상태와 병합 함수의 파라미터가 같아야 한다. */
+    private static final String LATENCY_QUANTILES = "0.5, 0.9, 0.95, 0.99";
+
+    /** 소스의 rt_digest_state 를 병합해 [p50, p90, p95, p99] 배열(rt_q)로 만든다. */
+    private static final String LATENCY_QUANTILES_MERGE =
+            " quantilesTDigestMerge(" + LATENCY_QUANTILES + ")(rt_digest_state) AS rt_q," +
+            " rt_q[1] AS p50_ms, rt_q[2] AS p90_ms, rt_q[3] AS p95_ms, rt_q[4] AS p99_ms";
+
+    /** rollup 테이블 → 공통 소스 컬럼 (bucket, 키 컬럼, log_cnt, error_5xx_cnt, rt_sum, rt_cnt, rt_digest_state) */
+    private static final String ROLLUP_SOURCE_COLUMNS = "bucket, " + ROLLUP_KEY_COLUMNS + "," +
+            " toUInt64(log_count) AS log_cnt," +
+            " toUInt64(error_5xx_count) AS error_5xx_cnt," +
+            " toUInt64(response_time_sum) AS rt_sum," +
+            " toUInt64(response_time_count) AS rt_cnt," +
+            " latency_digest AS rt_digest_state";
+
+    /** raw app_logs → rollup 과 동일한 형태의 분 단위 집계 (rollup 경계 밖 구간 보정용) */
+    private static final String RAW_SOURCE_COLUMNS = "toStartOfMinute(ingest_time) AS bucket, " + ROLLUP_KEY_COLUMNS + "," +
+            " count() AS log_cnt," +
+            " countIf(http_status >= 500) AS error_5xx_cnt," +
+            " sum(response_time_ms) AS rt_sum," +
+            " countIf(response_time_ms > 0) AS rt_cnt," +
+            " quantilesTDigestStateIf(" + LATENCY_QUANTILES + ")(response_time_ms, response_time_ms > 0) AS rt_digest_state";
+
     private final JdbcTemplate jdbc;
 
-    public LogRepository(@Qualifier("clickHouseJdbcTemplate") JdbcTemplate jdbc) {
+    /** clickhouse.reader=native 일 때만 존재. 검색/최근 에러 조회를 RowBinary 로 직접 읽는다. */
+    private final ClickHouseNativeReader nativeReader;
+
+    public LogRepository(@Qualifier("clickHouseJdbcTemplate") JdbcTemplate jdbc,
+                         ObjectProvider<ClickHouseNativeReader> nativeReader) {
         this.jdbc = jdbc;
+        this.nativeReader = nativeReader.getIfAvailable();
     }
 
     // ========== 로그 검색 ==========
 
-    public List<LogEntryDto> searchLogs(LogSearchRequest request) {
-        StringBuilder sql = new StringBuilder(
-                "SELECT ingest_time, host, service, env, level, logger, thread, message," +
-                " http_method, http_path, http_status, response_time_ms," +
-                " exception_class, stack_trace, raw_event" +
-                " FROM " + TABLE + " WHERE 1=1");
+    /**
+     * 검색 결과를 (ingest_time, host, row_id) 내림차순으로 조회한다.
+     * 다음 페이지 존재 여부를 알 수 있도록 size + 1 건까지 반환한다.
+     * cursor 가 있으면 OFFSET 대신 커서 이후 범위 조건으로 이어서 읽으므로 페이지 깊이와 무관하게 비용이 일정하다.
+     * view=summary 이면 stack_trace/raw_event 를 읽지 않고 메시지 앞부분과 rowKey 만 반환한다.
+     * service/keyword 조건이 없으면 p_time_order projection 으로 페이지 하한 시각을 먼저 구해 범위를 좁힌다.
+     */
+    public List<LogSearchRow> searchLogs(LogSearchRequest request) {
+        boolean summary = VIEW_SUMMARY.equalsIgnoreCase(request.getView());
+        StringBuilder sql = new StringBuilder(summary
+                ? "SELECT " + SUMMARY_COLUMNS + ", toString(" + ROW_ID + ") AS row_id_str"
+                : "SELECT " + FULL_COLUMNS + ", toString(" + ROW_ID + ") AS row_id_str");
+        sql.append(" FROM " + TABLE + " WHERE 1=1");
 
         List<Object> params = new ArrayList<>();
         appendSearchConditions(sql, params, request);
 
-        sql.append(" ORDER BY ingest_time DESC LIMIT ? OFFSET ?");
-        params.add(request.getSize());
-        params.add(request.getPage() * request.getSize());
+        boolean keyset = hasValue(request.getCursor());
+        LogCursor cursor = keyset ? LogCursor.decode(request.getCursor()) : null;
+        if (!hasValue(request.getService()) && !hasValue(request.getKeyword())) {
+            LocalDateTime lowerBound = findPageLowerBound(request, cursor);
+            if (lowerBound != null) {
+                sql.append(" AND ingest_time >= ?");
+                params.add(lowerBound);
+            }
+        }
+        if (keyset) {
+            sql.append(" AND ingest_time <= ?" +
+                    " AND (ingest_time < ? OR host < ? OR (host = ? AND " + ROW_ID + " < toUUID(?)))");
+            params.add(cursor.ingestTime());
+            params.add(cursor.ingestTime());
+            params.add(cursor.host());
+            params.add(cursor.host());
+            params.add(cursor.rowId());
+        }
 
-        return jdbc.query(sql.toString(), (rs, rowNum) -> mapToLogEntry(rs), params.toArray());
+        // hasNext 판단용으로 size + 1 건을 조회
+        sql.append(" ORDER BY ingest_time DESC, host DESC, " + ROW_ID + " DESC LIMIT ?");
+        params.add(request.getSize() + 1);
+        if (!keyset) {
+            sql.append(" OFFSET ?");
+            params.add(request.getPage() * request.getSize());
+        }
+
+        if (nativeReader != null) {
+            return nativeReader.query(tagged(sql.toString()), params, r -> {
+                LocalDateTime ingestTimeUtc = r.getLocalDateTime("ingest_time");
+                String rowId = r.getString("row_id_str");
+                String rowKey = new LogRowKey(r.getString("service"), r.getString("level"),
+                        ingestTimeUtc, r.getString("host"), rowId).encode();
+                LogEntryDto entry = summary
+                        ? nativeLogEntry(r, "message_preview")
+                                .messageTruncated(r.getLong("message_length") > MESSAGE_PREVIEW_LENGTH)
+                                .rowKey(rowKey)
+                                .build()
+                        : nativeLogEntry(r, "message")
+                                .stackTrace(emptyToNull(r.getString("stack_trace")))
+                                .rawEvent(r.getString("raw_event"))
+                                .rowKey(rowKey)
+                                .build();
+                return new LogSearchRow(entry, new LogCursor(ingestTimeUtc, r.getString("host"), rowId));
+            });
+        }
+
+        return jdbc.query(tagged(sql.toString()),
+                (rs, rowNum) -> {
+                    LocalDateTime ingestTimeUtc = rs.getTimestamp("ingest_time").toLocalDateTime();
+                    String rowId = rs.getString("row_id_str");
+                    String rowKey = new LogRowKey(rs.getString("service"), rs.getString("level"),
+                            ingestTimeUtc, rs.getString("host"), rowId).encode();
+                    LogEntryDto entry = summary
+                            ? baseLogEntry(rs, "message_preview")
+                                    .messageTruncated(rs.getLong("message_length") > MESSAGE_PREVIEW_LENGTH)
+                                    .rowKey(rowKey)
+                                    .build()
+                            : baseLogEntry(rs, "message")
+                                    .stackTrace(emptyToNull(rs.getString("stack_trace")))
+                                    .rawEvent(rs.getString("raw_event"))
+                                    .rowKey(rowKey)
+                                    .build();
+                    return new LogSearchRow(entry, new LogCursor(ingestTimeUtc, rs.getString("host"), rowId));
+                },
+                params.toArray());
+    }
+
+    /**
+     * rowKey 로 로그 한 행의 전체 컬럼(stack_trace, raw_event 포함)을 조회한다.
+     * 정렬 키 조건으로 primary key 범위를 좁히고 row_id 로 목록에서 선택한 바로 그 행을 찾는다.
+     */
+    public Optional<LogEntryDto> findLog(LogRowKey key) {
+        String sql = "SELECT " + FULL_COLUMNS + " FROM " + TABLE +
+                " WHERE service = ? AND level = ? AND ingest_time = ? AND host = ?" +
+                " AND " + ROW_ID + " = toUUID(?) LIMIT 1";
+
+        return jdbc.query(tagged(sql), (rs, rowNum) -> mapToLogEntry(rs),
+                        key.service(), key.level(), key.ingestTime(), key.host(), key.rowId())
+                .stream().findFirst();
+    }
+
+    /**
+     * 검색 조건에 맞는 로그를 forward-only ResultSet 으로 한 행씩 sink 에 전달한다 (export 용).
+     * 결과를 모으지 않으므로 행 수와 무관하게 힙 사용량이 일정하며, 정렬 없이 저장 순서대로 내보낸다.
+     * sink 가 IOException(클라이언트 연결 종료 등)을 던지면 statement 를 cancel 해 ClickHouse 쿼리를 중단한다.
+     *
+     * @return 전달한 행 수. 조건에 맞는 행이 maxRows 보다 많으면 maxRows 건만 전달하고 쿼리를 중단한 뒤 maxRows + 1 을 반환한다
+     */
+    public long streamLogs(LogSearchRequest request, int fetchSize, long maxRows, LogEntrySink sink) {
+        StringBuilder sql = new StringBuilder("SELECT " + FULL_COLUMNS + " FROM " + TABLE + " WHERE 1=1");
+        List<Object> params = new ArrayList<>();
+        appendSearchConditions(sql, params, request);
+        // 잘림 여부를 알 수 있도록 한 건 더 조회
+        sql.append(" LIMIT ?");
+        params.add(maxRows + 1);
+
+        PreparedStatementCreator creator = con -> {
+            PreparedStatement ps = con.prepareStatement(tagged(sql.toString()),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            new ArgumentPreparedStatementSetter(params.toArray()).setValues(ps);
+            return ps;
+        };
+
+        Long written = jdbc.execute(creator, (PreparedStatementCallback<Long>) ps -> {
+            long count = 0;
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    if (count == maxRows) {
+                        ps.cancel();
+                        return maxRows + 1;
+                    }
+                    sink.accept(mapToLogEntry(rs));
+                    count++;
+                }
+            } catch (IOException e) {
+                ps.cancel();
+                throw new UncheckedIOException(e);
+            }
+            return count;
+        });
+        return written != null ? written : 0L;
+    }
+
+    /** streamLogs 의 행 단위 출력 대상 */
+    @FunctionalInterface
+    public interface LogEntrySink {
+        void accept(LogEntryDto entry) throws IOException;
     }
 
     public long countLogs(LogSearchRequest request) {
@@ -63,88 +279,109 @@ public class LogRepository {
         List<Object> params = new ArrayList<>();
         appendSearchConditions(sql, params, request);
 
-        Long count = jdbc.queryForObject(sql.toString(), Long.class, params.toArray());
+        Long count = jdbc.queryForObject(tagged(sql.toString()), Long.class, params.toArray());
         return count != null ? count : 0L;
     }
 
-    // ========== 대시보드: Overview ==========
+    /**
+     * EXPLAIN ESTIMATE 로 인덱스(파티션/정렬 키) 가지치기 후 읽게 될 행 수를 반환한다.
+     * granule 단위 추정이며 정렬 키 밖의 조건(keyword, host, env)은 반영되지 않으므로 상한값이다.
+     */
+    public long estimateLogs(LogSearchRequest request) {
+        StringBuilder sql = new StringBuilder(
+                "EXPLAIN ESTIMATE SELECT count() FROM " + TABLE + " WHERE 1=1");
 
-    public long getTotalLogCount(LocalDateTime from, LocalDateTime to) {
-        String sql = "SELECT count() FROM " + TABLE + " WHERE ingest_time >= ? AND ingest_time < ?";
-        Long count = jdbc.queryForObject(sql, Long.class, from, to);
-        return count != null ? count : 0L;
-    }
+        List<Object> params = new ArrayList<>();
+        appendSearchConditions(sql, params, request);
 
-    public long getErrorLogCount(LocalDateTime from, LocalDateTime to) {
-        String sql = "SELECT count() FROM " + TABLE +
-                " WHERE ingest_time >= ? AND ingest_time < ? AND level = 'ERROR'";
-        Long count = jdbc.queryForObject(sql, Long.class, from, to);
-        return count != null ? count : 0L;
+        return jdbc.query(tagged(sql.toString()), (rs, rowNum) -> rs.getLong("rows"), params.toArray())
+                .stream().mapToLong(Long::longValue).sum();
     }
 
-    public long getFatalLogCount(LocalDateTime from, LocalDateTime to) {
-        String sql = "SELECT count() FROM " + TABLE +
-                " WHERE ingest_time >= ? AND ingest_time < ? AND level = 'FATAL'";
-        Long count = jdbc.queryForObject(sql, Long.class, from, to);
-        return count != null ? count : 0L;
+    // ========== 로그 tail ==========
+
+    /**
+     * (ingest_time, host, row_id) 커서 이후의 로그를 오름차순으로 조회한다.
+     * row_id 로 같은 시각·host 의 행도 순서가 정해지므로 배치가 어느 행에서 잘려도 다음 조회가 그 다음 행부터 이어진다.
+     * until 은 수집 지연을 고려한 상한으로, 이보다 최근 로그는 다음 폴링에서 읽는다.
+     *
+     * @param after UTC 커서 (이 키보다 큰 행만 조회)
+     * @param until UTC 상한 (포함)
+     */
+    public List<LogSearchRow> getLogsAfter(String service, LogCursor after, LocalDateTime until, int limit) {
+        String sql = "SELECT " + FULL_COLUMNS + ", toString(" + ROW_ID + ") AS row_id_str FROM " + TABLE +
+                " WHERE service = ? AND ingest_time >= ? AND ingest_time <= ?" +
+                " AND (ingest_time > ? OR host > ? OR (host = ? AND " + ROW_ID + " > toUUID(?)))" +
+                " ORDER BY ingest_time ASC, host ASC, " + ROW_ID + " ASC LIMIT ?";
+
+        return jdbc.query(tagged(sql),
+                (rs, rowNum) -> new LogSearchRow(mapToLogEntry(rs), new LogCursor(
+                        rs.getTimestamp("ingest_time").toLocalDateTime(), rs.getString("host"),
+                        rs.getString("row_id_str"))),
+                service, after.ingestTime(), until,
+                after.ingestTime(), after.host(), after.host(), after.rowId(), limit);
     }
 
-    public long getWarnLogCount(LocalDateTime from, LocalDateTime to) {
-        String sql = "SELECT count() FROM " + TABLE +
-                " WHERE ingest_time >= ? AND ingest_time < ? AND level = 'WARN'";
-        Long count = jdbc.queryForObject(sql, Long.class, from, to);
-        return count != null ? count : 0L;
+    // ========== 대시보드: Overview ==========
+
+    /**
+     * Overview 카운터/응답시간 지표를 rollup 소스 단일 스캔으로 집계한다.
+     * 레벨별 건수, 요청 수, 평균/분위수 응답시간, 서비스 수를 -If 조합자로 한 번에 계산.
+     */
+    public SummaryStatsRow getSummaryStats(LocalDateTime from, LocalDateTime to) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT sum(log_cnt) AS total_count," +
+                " sumIf(log_cnt, level = 'ERROR') AS error_count," +
+                " sumIf(log_cnt, level = 'FATAL') AS fatal_count," +
+                " sumIf(log_cnt, level = 'WARN') AS warn_count," +
+                " sumIf(log_cnt, http_method != '') AS request_count," +
+                " uniq(service) AS service_count," +
+                " sum(rt_sum) / sum(rt_cnt) AS avg_response_ms," +
+                LATENCY_QUANTILES_MERGE +
+                " FROM " + rangeSource(from, to, "", List.of(), params);
+
+        return jdbc.queryForObject(tagged(sql),
+                (rs, rowNum) -> new SummaryStatsRow(
+                        rs.getLong("total_count"),
+                        rs.getLong("error_count"),
+                        rs.getLong("fatal_count"),
+                        rs.getLong("warn_count"),
+                        rs.getLong("request_count"),
+                        rs.getInt("service_count"),
+                        roundTwo(rs.getDouble("avg_response_ms")),
+                        roundTwo(rs.getDouble("p50_ms")),
+                        roundTwo(rs.getDouble("p90_ms")),
+                        roundTwo(rs.getDouble("p95_ms")),
+                        roundTwo(rs.getDouble("p99_ms"))
+                ),
+                params.toArray());
     }
 
     public int getActiveServerCount(LocalDateTime since) {
         String sql = "SELECT uniq(host) FROM " + TABLE + " WHERE ingest_time >= ?";
-        Integer count = jdbc.queryForObject(sql, Integer.class, since);
-        return count != null ? count : 0;
-    }
-
-    public int getServiceCount(LocalDateTime since) {
-        String sql = "SELECT uniq(service) FROM " + TABLE + " WHERE ingest_time >= ?";
-        Integer count = jdbc.queryForObject(sql, Integer.class, since);
+        Integer count = jdbc.queryForObject(tagged(sql), Integer.class, since);
         return count != null ? count : 0;
     }
 
-    public long getRequestCount(LocalDateTime from, LocalDateTime to) {
-        String sql = "SELECT count() FROM " + TABLE +
-                " WHERE ingest_time >= ? AND ingest_time < ? AND http_method != ''";
-        Long count = jdbc.queryForObject(sql, Long.class, from, to);
-        return count != null ? count : 0L;
-    }
-
-    public double getAvgResponseTime(LocalDateTime from, LocalDateTime to) {
-        String sql = "SELECT avg(response_time_ms) FROM " + TABLE +
-                " WHERE ingest_time >= ? AND ingest_time < ? AND response_time_ms > 0";
-        Double val = jdbc.queryForObject(sql, Double.class, from, to);
-        return val != null ? Math.round(val * 100.0) / 100.0 : 0.0;
-    }
-
-    public double getP95ResponseTime(LocalDateTime from, LocalDateTime to) {
-        String sql = "SELECT quantile(0.95)(response_time_ms) FROM " + TABLE +
-                " WHERE ingest_time >= ? AND ingest_time < ? AND response_time_ms > 0";
-        Double val = jdbc.queryForObject(sql, Double.class, from, to);
-        return val != null ? Math.round(val * 100.0) / 100.0 : 0.0;
-    }
-
     // ========== 대시보드: 로그 레벨 분포 ==========
 
+    /**
+     * rollup(rangeSource)의 level 별 log_cnt 를 합산한다.
+     * 경계 밖 자투리 구간은 raw 로 보정하므로 결과는 raw count() 와 같다.
+     */
     public List<LevelCountRow> getLogLevelDistribution(LocalDateTime from, LocalDateTime to,
                                                         String service, String env) {
-        StringBuilder sql = new StringBuilder(
-                "SELECT level, count() AS cnt FROM " + TABLE +
-                " WHERE ingest_time >= ? AND ingest_time < ?");
+        StringBuilder filter = new StringBuilder();
+        List<Object> filterParams = new ArrayList<>();
+        appendOptionalFilter(filter, filterParams, "service", service);
+        appendOptionalFilter(filter, filterParams, "env", env);
 
         List<Object> params = new ArrayList<>();
-        params.add(from);
-        params.add(to);
-        appendOptionalFilter(sql, params, "service", service);
-        appendOptionalFilter(sql, params, "env", env);
-        sql.append(" GROUP BY level ORDER BY cnt DESC");
+        String sql = "SELECT level, sum(log_cnt) AS cnt FROM " +
+                rangeSource(from, to, filter.toString(), filterParams, params) +
+                " GROUP BY level ORDER BY cnt DESC";
 
-        return jdbc.query(sql.toString(),
+        return jdbc.query(tagged(sql),
                 (rs, rowNum) -> {
                     String level = rs.getString("level");
                     return new LevelCountRow(
@@ -165,7 +402,7 @@ public class LogRepository {
                 " FROM " + TABLE + " WHERE ingest_time >= ?" +
                 " GROUP BY host, service, env ORDER BY last_log_time DESC";
 
-        return jdbc.query(sql,
+        return jdbc.query(tagged(sql),
                 (rs, rowNum) -> new ServerStatusRow(
                         rs.getString("host"),
                         rs.getString("service"),
@@ -177,26 +414,56 @@ public class LogRepository {
                 since);
     }
 
+    /**
+     * [from, to) 의 (host, service, env, 분) 별 건수. 분 rollup 에서 읽고 경계 자투리만 raw 로 보정한다.
+     * rollup 에는 분 미만 시각이 없으므로 lastLogTime 은 해당 분의 시작 시각이다.
+     */
+    public List<HostMinuteRow> getHostMinuteCounts(LocalDateTime from, LocalDateTime to) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT host, service, env, bucket AS minute," +
+                " sum(log_cnt) AS log_count," +
+                " sumIf(log_cnt, level IN ('ERROR', 'FATAL')) AS error_count," +
+                " max(bucket) AS last_log_time" +
+                " FROM " + rollupSource(from, to, "1 MINUTE", "", List.of(), params) +
+                " GROUP BY host, service, env, minute";
+
+        return jdbc.query(tagged(sql), this::mapHostMinuteRow, params.toArray());
+    }
+
+    /**
+     * [from, to) 의 (host, service, env, 분) 별 건수를 raw 에서 읽는다 (host registry 의 증분 조회).
+     * p_time_order projection 컬럼만 사용하므로 짧은 구간은 해당 구간의 granule 만 읽는다.
+     */
+    public List<HostMinuteRow> getHostMinuteCountsRaw(LocalDateTime from, LocalDateTime to) {
+        String sql = "SELECT host, service, env, toStartOfMinute(ingest_time) AS minute," +
+                " count() AS log_count," +
+                " countIf(level IN ('ERROR', 'FATAL')) AS error_count," +
+                " max(ingest_time) AS last_log_time" +
+                " FROM " + TABLE + " WHERE ingest_time >= ? AND ingest_time < ?" +
+                " GROUP BY host, service, env, minute";
+
+        return jdbc.query(tagged(sql), this::mapHostMinuteRow, from, to);
+    }
+
     // ========== 대시보드: 로그 타임라인 ==========
 
     public List<TimelineRow> getLogTimeline(LocalDateTime from, LocalDateTime to,
                                              String interval, String service, String env) {
-        StringBuilder sql = new StringBuilder(
-                "SELECT toStartOfInterval(ingest_time, INTERVAL " + interval + ") AS time_bucket," +
-                " count() AS total_count," +
-                " countIf(level IN ('ERROR', 'FATAL')) AS error_count," +
-                " countIf(level = 'WARN') AS warn_count," +
-                " countIf(level = 'INFO') AS info_count" +
-                " FROM " + TABLE + " WHERE ingest_time >= ? AND ingest_time < ?");
+        StringBuilder filter = new StringBuilder();
+        List<Object> filterParams = new ArrayList<>();
+        appendOptionalFilter(filter, filterParams, "service", service);
+        appendOptionalFilter(filter, filterParams, "env", env);
 
         List<Object> params = new ArrayList<>();
-        params.add(from);
-        params.add(to);
-        appendOptionalFilter(sql, params, "service", service);
-        appendOptionalFilter(sql, params, "env", env);
-        sql.append(" GROUP BY time_bucket ORDER BY time_bucket ASC");
+        String sql = "SELECT " + timeBucket("bucket", interval) + " AS time_bucket," +
+                " sum(log_cnt) AS total_count," +
+                " sumIf(log_cnt, level IN ('ERROR', 'FATAL')) AS error_count," +
+                " sumIf(log_cnt, level = 'WARN') AS warn_count," +
+                " sumIf(log_cnt, level = 'INFO') AS info_count" +
+                " FROM " + rollupSource(from, to, interval, filter.toString(), filterParams, params) +
+                " GROUP BY time_bucket ORDER BY time_bucket ASC";
 
-        return jdbc.query(sql.toString(),
+        return jdbc.query(tagged(sql),
                 (rs, rowNum) -> new TimelineRow(
                         toSafeLocalDateTime(rs.getTimestamp("time_bucket")),
                         rs.getLong("total_count"),
@@ -209,85 +476,136 @@ public class LogRepository {
 
     // ========== 대시보드: API Performance ==========
 
+    /**
+     * API 라우트(경로 템플릿) 단위로 집계하므로 그룹 수는 실제 경로 수가 아니라 라우트 수에 비례한다.
+     */
     public List<ApiRankingRow> getApiRanking(LocalDateTime from, LocalDateTime to,
                                               String service, String sortBy, int limit) {
-        StringBuilder sql = new StringBuilder(
-                "SELECT http_method, http_path," +
-                " count() AS request_count," +
-                " avg(response_time_ms) AS avg_ms," +
-                " quantile(0.95)(response_time_ms) AS p95_ms," +
-                " countIf(http_status >= 500) AS error_count" +
-                " FROM " + TABLE +
-                " WHERE ingest_time >= ? AND ingest_time < ? AND http_method != ''");
-
-        List<Object> params = new ArrayList<>();
-        params.add(from);
-        params.add(to);
-        appendOptionalFilter(sql, params, "service", service);
-        sql.append(" GROUP BY http_method, http_path");
+        StringBuilder filter = new StringBuilder(" AND http_method != ''");
+        List<Object> filterParams = new ArrayList<>();
+        appendOptionalFilter(filter, filterParams, "service", service);
+        return queryApiRanking(from, to, filter.toString(), filterParams, sortBy, limit);
+    }
 
-        switch (sortBy != null ? sortBy : "count") {
-            case "slow" -> sql.append(" ORDER BY p95_ms DESC");
-            case "error" -> sql.append(" ORDER BY error_count DESC");
-            default -> sql.append(" ORDER BY request_count DESC");
+    /**
+     * getApiTopK 로 추린 후보 (http_method, API 라우트) 만 정확히 집계한다.
+     * 해시 테이블이 후보 수만큼만 커지므로 넓은 구간에서도 메모리가 일정하다.
+     */
+    public List<ApiRankingRow> getApiRanking(LocalDateTime from, LocalDateTime to, String service,
+                                              String sortBy, int limit, List<ApiTopKRow> candidates) {
+        if (candidates.isEmpty()) {
+            return List.of();
         }
 
-        sql.append(" LIMIT ?");
-        params.add(limit);
+        StringBuilder filter = new StringBuilder(" AND http_method != ''");
+        List<Object> filterParams = new ArrayList<>();
+        appendOptionalFilter(filter, filterParams, "service", service);
+        filter.append(" AND (http_method, " + API_ROUTE + ") IN (");
+        for (int i = 0; i < candidates.size(); i++) {
+            filter.append(i > 0 ? ", (?, ?)" : "(?, ?)");
+            filterParams.add(candidates.get(i).httpMethod());
+            filterParams.add(candidates.get(i).httpRoute());
+        }
+        filter.append(")");
+        return queryApiRanking(from, to, filter.toString(), filterParams, sortBy, limit);
+    }
 
-        return jdbc.query(sql.toString(),
-                (rs, rowNum) -> new ApiRankingRow(
+    /**
+     * topKWeighted sketch 로 요청 수(count) 또는 5xx 수(error) 상위 k 개 후보를 구한다.
+     * 모든 경로의 해시 테이블 대신 고정 크기 sketch 만 유지하며,
+     * 각 후보의 error 는 추정 건수가 실제보다 클 수 있는 최대치다.
+     */
+    public List<ApiTopKRow> getApiTopK(LocalDateTime from, LocalDateTime to,
+                                        String service, String sortBy, int k) {
+        StringBuilder filter = new StringBuilder(" AND http_method != ''");
+        List<Object> filterParams = new ArrayList<>();
+        appendOptionalFilter(filter, filterParams, "service", service);
+
+        String weight = "error".equals(sortBy) ? "error_5xx_cnt" : "log_cnt";
+        List<Object> params = new ArrayList<>();
+        // topK 파라미터는 상수여야 하므로 바인딩하지 않고 정수로 직접 넣는다
+        String sql = "SELECT tupleElement(t.1, 1) AS http_method, tupleElement(t.1, 2) AS api_route," +
+                " t.2 AS estimated_count, t.3 AS max_error" +
+                " FROM (SELECT topKWeighted(" + k + ", " + TOPK_LOAD_FACTOR + ", 'counts')" +
+                "(tuple(http_method, " + API_ROUTE + "), " + weight + ") AS top" +
+                " FROM " + rangeSource(from, to, filter.toString(), filterParams, params) +
+                " WHERE " + weight + " > 0)" +
+                " ARRAY JOIN top AS t";
+
+        return jdbc.query(tagged(sql),
+                (rs, rowNum) -> new ApiTopKRow(
                         rs.getString("http_method"),
-                        rs.getString("http_path"),
-                        rs.getLong("request_count"),
-                        roundTwo(rs.getDouble("avg_ms")),
-                        roundTwo(rs.getDouble("p95_ms")),
-                        rs.getLong("error_count")
+                        rs.getString("api_route"),
+                        rs.getLong("estimated_count"),
+                        rs.getLong("max_error")
                 ),
                 params.toArray());
     }
 
     public List<ApiDetailRow> getApiDetail(LocalDateTime from, LocalDateTime to,
-                                            String httpMethod, String httpPath, String interval) {
-        String sql = "SELECT toStartOfInterval(ingest_time, INTERVAL " + interval + ") AS time_bucket," +
-                " count() AS request_count," +
-                " avg(response_time_ms) AS avg_ms," +
-                " quantile(0.95)(response_time_ms) AS p95_ms," +
-                " countIf(http_status >= 500) AS error_count" +
-                " FROM " + TABLE +
-                " WHERE ingest_time >= ? AND ingest_time < ?" +
-                " AND http_method = ? AND http_path = ?" +
+                                            String httpMethod, String httpRoute, String interval) {
+        String filter = " AND http_method = ? AND " + API_ROUTE + " = ?";
+        List<Object> filterParams = List.of(httpMethod, httpRoute);
+
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT " + timeBucket("bucket", interval) + " AS time_bucket," +
+                " sum(log_cnt) AS request_count," +
+                " sum(rt_sum) / sum(log_cnt) AS avg_ms," +
+                LATENCY_QUANTILES_MERGE + "," +
+                " sum(error_5xx_cnt) AS error_count" +
+                " FROM " + rollupSource(from, to, interval, filter, filterParams, params) +
                 " GROUP BY time_bucket ORDER BY time_bucket ASC";
 
-        return jdbc.query(sql,
+        return jdbc.query(tagged(sql),
                 (rs, rowNum) -> new ApiDetailRow(
                         toSafeLocalDateTime(rs.getTimestamp("time_bucket")),
                         rs.getLong("request_count"),
                         roundTwo(rs.getDouble("avg_ms")),
+                        roundTwo(rs.getDouble("p50_ms")),
+                        roundTwo(rs.getDouble("p90_ms")),
                         roundTwo(rs.getDouble("p95_ms")),
+                        roundTwo(rs.getDouble("p99_ms")),
                         rs.getLong("error_count")
                 ),
-                from, to, httpMethod, httpPath);
+                params.toArray());
     }
 
     // ========== 대시보드: Error Analysis ==========
 
-    public List<ErrorTrendRow> getErrorTrend(LocalDateTime from, LocalDateTime to,
-                                              String interval, String service) {
-        StringBuilder sql = new StringBuilder(
-                "SELECT toStartOfInterval(ingest_time, INTERVAL " + interval + ") AS time_bucket," +
-                " countIf(level = 'ERROR') AS error_count," +
-                " countIf(level = 'FATAL') AS fatal_count" +
-                " FROM " + TABLE +
-                " WHERE ingest_time >= ? AND ingest_time < ? AND level IN ('ERROR', 'FATAL')");
+    /**
+     * fingerprint 가 지정되면 rollup 에 없는 컬럼이므로 raw app_logs 에서 error_fingerprint 로 필터링한다.
+     * 표본 조회는 하지 않는다. app_logs 에 SAMPLE BY 키가 없어 표본 필터로는 읽는 granule 이 줄지 않고,
+     * fingerprint 별 에러는 소수 host/thread 에 몰려 있어 표본 추정의 편차가 크다.
+     */
+    public List<ErrorTrendRow> getErrorTrend(LocalDateTime from, LocalDateTime to, String interval,
+                                              String service, String fingerprint) {
+        StringBuilder filter = new StringBuilder(" AND level IN ('ERROR', 'FATAL')");
+        List<Object> filterParams = new ArrayList<>();
+        appendOptionalFilter(filter, filterParams, "service", service);
 
         List<Object> params = new ArrayList<>();
-        params.add(from);
-        params.add(to);
-        appendOptionalFilter(sql, params, "service", service);
-        sql.append(" GROUP BY time_bucket ORDER BY time_bucket ASC");
+        String sql;
+        if (hasValue(fingerprint)) {
+            params.add(from);
+            params.add(to);
+            params.addAll(filterParams);
+            params.add(fingerprint);
+            sql = "SELECT " + timeBucket("ingest_time", interval) + " AS time_bucket," +
+                    " countIf(level = 'ERROR') AS error_count," +
+                    " countIf(level = 'FATAL') AS fatal_count" +
+                    " FROM " + TABLE +
+                    " WHERE ingest_time >= ? AND ingest_time < ?" + filter +
+                    " AND error_fingerprint = toUInt64(?)" +
+                    " GROUP BY time_bucket ORDER BY time_bucket ASC";
+        } else {
+            sql = "SELECT " + timeBucket("bucket", interval) + " AS time_bucket," +
+                    " sumIf(log_cnt, level = 'ERROR') AS error_count," +
+                    " sumIf(log_cnt, level = 'FATAL') AS fatal_count" +
+                    " FROM " + rollupSource(from, to, interval, filter.toString(), filterParams, params) +
+                    " GROUP BY time_bucket ORDER BY time_bucket ASC";
+        }
 
-        return jdbc.query(sql.toString(),
+        return jdbc.query(tagged(sql),
                 (rs, rowNum) -> new ErrorTrendRow(
                         toSafeLocalDateTime(rs.getTimestamp("time_bucket")),
                         rs.getLong("error_count"),
@@ -296,10 +614,14 @@ public class LogRepository {
                 params.toArray());
     }
 
+    /**
+     * 적재 시 계산된 error_fingerprint(정규화된 상위 stack frame 해시)로 그룹핑한다.
+     */
     public List<ErrorGroupRow> getErrorGrouping(LocalDateTime from, LocalDateTime to,
                                                   String service, int limit) {
         StringBuilder sql = new StringBuilder(
-                "SELECT exception_class," +
+                "SELECT toString(error_fingerprint) AS fingerprint," +
+                " any(exception_class) AS exception_class," +
                 " any(message) AS sample_message," +
                 " count() AS cnt," +
                 " max(ingest_time) AS last_occurrence" +
@@ -310,11 +632,22 @@ public class LogRepository {
         params.add(from);
         params.add(to);
         appendOptionalFilter(sql, params, "service", service);
-        sql.append(" GROUP BY exception_class ORDER BY cnt DESC LIMIT ?");
+        sql.append(" GROUP BY error_fingerprint ORDER BY cnt DESC LIMIT ?");
         params.add(limit);
 
-        return jdbc.query(sql.toString(),
+        if (nativeReader != null) {
+            return nativeReader.query(tagged(sql.toString()), params, r -> new ErrorGroupRow(
+                    r.getString("fingerprint"),
+                    r.getString("exception_class"),
+                    r.getString("sample_message"),
+                    r.getLong("cnt"),
+                    TimeUtils.toKst(r.getLocalDateTime("last_occurrence"))
+            ));
+        }
+
+        return jdbc.query(tagged(sql.toString()),
                 (rs, rowNum) -> new ErrorGroupRow(
+                        rs.getString("fingerprint"),
                         rs.getString("exception_class"),
                         rs.getString("sample_message"),
                         rs.getLong("cnt"),
@@ -328,7 +661,7 @@ public class LogRepository {
         StringBuilder sql = new StringBuilder(
                 "SELECT ingest_time, host, service, env, level, logger, thread, message," +
                 " http_method, http_path, http_status, response_time_ms," +
-                " exception_class, stack_trace, raw_event" +
+                " exception_class, stack_trace" +
                 " FROM " + TABLE +
                 " WHERE ingest_time >= ? AND ingest_time < ? AND level IN ('ERROR', 'FATAL')");
 
@@ -339,15 +672,26 @@ public class LogRepository {
         sql.append(" ORDER BY ingest_time DESC LIMIT ?");
         params.add(limit);
 
-        return jdbc.query(sql.toString(), (rs, rowNum) -> mapToLogEntry(rs), params.toArray());
+        if (nativeReader != null) {
+            return nativeReader.query(tagged(sql.toString()), params,
+                    r -> nativeLogEntry(r, "message").stackTrace(emptyToNull(r.getString("stack_trace"))).build());
+        }
+
+        return jdbc.query(tagged(sql.toString()),
+                (rs, rowNum) -> baseLogEntry(rs, "message").stackTrace(emptyToNull(rs.getString("stack_trace"))).build(),
+                params.toArray());
     }
 
     // ========== 애플리케이션: 자동 발견 ==========
 
+    /**
+     * since 가 속한 분 이후 로그가 있는 service 목록. raw 대신 분 rollup 을 읽으므로
+     * 조회 비용은 로그 건수가 아니라 (분, 키) 조합 수에 비례한다.
+     */
     public List<String> getDistinctServices(LocalDateTime since) {
-        String sql = "SELECT DISTINCT service FROM " + TABLE +
-                " WHERE ingest_time >= ? AND service != '' ORDER BY service";
-        return jdbc.queryForList(sql, String.class, since);
+        String sql = "SELECT DISTINCT service FROM " + RollupGrain.MINUTE.table +
+                " WHERE bucket >= toStartOfMinute(?) AND service != '' ORDER BY service";
+        return jdbc.queryForList(tagged(sql), String.class, since);
     }
 
     // ========== 애플리케이션: 서비스별 요약 통계 ==========
@@ -369,7 +713,7 @@ public class LogRepository {
         params.add(since);
         params.addAll(serviceNames);
 
-        return jdbc.query(sql,
+        return jdbc.query(tagged(sql),
                 (rs, rowNum) -> new ServiceSummaryRow(
                         rs.getString("service"),
                         rs.getLong("log_count"),
@@ -390,7 +734,7 @@ public class LogRepository {
                 " WHERE ingest_time >= ? AND service = ?" +
                 " GROUP BY host, service, env ORDER BY last_log_time DESC";
 
-        return jdbc.query(sql,
+        return jdbc.query(tagged(sql),
                 (rs, rowNum) -> new ServerStatusRow(
                         rs.getString("host"),
                         rs.getString("service"),
@@ -405,31 +749,224 @@ public class LogRepository {
     // ========== 애플리케이션: 상세 통계 ==========
 
     public AppStatsRow getAppStats(LocalDateTime from, LocalDateTime to, String serviceName) {
-        String sql = "SELECT count() AS total_count," +
-                " countIf(level = 'ERROR') AS error_count," +
-                " countIf(level = 'WARN') AS warn_count," +
-                " countIf(http_method != '') AS request_count," +
-                " avg(if(response_time_ms > 0, response_time_ms, null)) AS avg_response_ms," +
-                " quantile(0.95)(if(response_time_ms > 0, response_time_ms, null)) AS p95_response_ms" +
-                " FROM " + TABLE +
-                " WHERE ingest_time >= ? AND ingest_time < ? AND service = ?";
-
-        return jdbc.queryForObject(sql,
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT sum(log_cnt) AS total_count," +
+                " sumIf(log_cnt, level = 'ERROR') AS error_count," +
+                " sumIf(log_cnt, level = 'WARN') AS warn_count," +
+                " sumIf(log_cnt, http_method != '') AS request_count," +
+                " sum(rt_sum) / sum(rt_cnt) AS avg_response_ms," +
+                LATENCY_QUANTILES_MERGE +
+                " FROM " + rangeSource(from, to, " AND service = ?", List.of(serviceName), params);
+
+        return jdbc.queryForObject(tagged(sql),
                 (rs, rowNum) -> new AppStatsRow(
                         rs.getLong("total_count"),
                         rs.getLong("error_count"),
                         rs.getLong("warn_count"),
                         rs.getLong("request_count"),
                         roundTwo(rs.getDouble("avg_response_ms")),
-                        roundTwo(rs.getDouble("p95_response_ms"))
+                        roundTwo(rs.getDouble("p50_ms")),
+                        roundTwo(rs.getDouble("p90_ms")),
+                        roundTwo(rs.getDouble("p95_ms")),
+                        roundTwo(rs.getDouble("p99_ms"))
+                ),
+                params.toArray());
+    }
+
+    // ========== API Ranking Helpers ==========
+
+    private List<ApiRankingRow> queryApiRanking(LocalDateTime from, LocalDateTime to, String filter,
+                                                List<Object> filterParams, String sortBy, int limit) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(
+                "SELECT http_method, " + API_ROUTE + " AS api_route," +
+                " sum(log_cnt) AS request_count," +
+                " sum(rt_sum) / sum(log_cnt) AS avg_ms," +
+                LATENCY_QUANTILES_MERGE + "," +
+                " sum(error_5xx_cnt) AS error_count" +
+                " FROM " + rangeSource(from, to, filter, filterParams, params) +
+                " GROUP BY http_method, api_route");
+
+        switch (sortBy != null ? sortBy : "count") {
+            case "slow" -> sql.append(" ORDER BY p95_ms DESC");
+            case "error" -> sql.append(" ORDER BY error_count DESC");
+            default -> sql.append(" ORDER BY request_count DESC");
+        }
+
+        sql.append(" LIMIT ?");
+        params.add(limit);
+
+        return jdbc.query(tagged(sql.toString()),
+                (rs, rowNum) -> new ApiRankingRow(
+                        rs.getString("http_method"),
+                        rs.getString("api_route"),
+                        rs.getLong("request_count"),
+                        roundTwo(rs.getDouble("avg_ms")),
+                        roundTwo(rs.getDouble("p50_ms")),
+                        roundTwo(rs.getDouble("p90_ms")),
+                        roundTwo(rs.getDouble("p95_ms")),
+                        roundTwo(rs.getDouble("p99_ms")),
+                        rs.getLong("error_count")
                 ),
-                from, to, serviceName);
+                params.toArray());
+    }
+
+    // ========== Rollup Routing ==========
+
+    /**
+     * 사전 집계 테이블 grain. interval 이 grain 의 배수이면 해당 rollup 을 읽을 수 있다.
+     * 큰 grain 부터 선언하며, 경계 밖 자투리 구간은 다음(더 작은) grain 으로 내려가 채운다.
+     */
+    private enum RollupGrain {
+        HOUR("lighthouse.app_logs_1h", Duration.ofHours(1)),
+        MINUTE("lighthouse.app_logs_1m", Duration.ofMinutes(1));
+
+        private final String table;
+        private final Duration size;
+
+        RollupGrain(String table, Duration size) {
+            this.table = table;
+            this.size = size;
+        }
+
+        static RollupGrain forInterval(Duration interval) {
+            for (RollupGrain grain : values()) {
+                if (interval.compareTo(grain.size) >= 0 && interval.getSeconds() % grain.size.getSeconds() == 0) {
+                    return grain;
+                }
+            }
+            return null;
+        }
+
+        RollupGrain finer() {
+            return ordinal() + 1 < values().length ? values()[ordinal() + 1] : null;
+        }
+    }
+
+    /**
+     * [from, to) 구간의 버킷 집계 소스 서브쿼리를 만든다.
+     * interval 에 맞는 가장 큰 grain 부터 경계에 맞는 안쪽 구간은 rollup 에서,
+     * 경계 밖 자투리는 더 작은 grain 의 rollup, 마지막으로 남은 분 미만 구간은 raw 에서 읽어
+     * UNION ALL 로 합치므로 결과는 raw 집계와 동일하다.
+     * filter 는 rollup/raw 공통 컬럼(service, env, host, level, http_method, http_route)만 참조해야 한다.
+     */
+    private String rollupSource(LocalDateTime from, LocalDateTime to, String interval,
+                                String filter, List<Object> filterParams, List<Object> params) {
+        RollupGrain grain = RollupGrain.forInterval(TimeUtils.parseInterval(interval));
+        return layeredSource(from, to, grain, filter, filterParams, params);
+    }
+
+    /**
+     * 버킷 구분 없이 [from, to) 전체를 집계할 때의 소스 (Overview/랭킹/앱 통계).
+     * 시간 rollup 부터 시작하므로 7일 구간도 시간 버킷 수 + 양끝 분 버킷만 읽는다.
+     */
+    private String rangeSource(LocalDateTime from, LocalDateTime to,
+                               String filter, List<Object> filterParams, List<Object> params) {
+        return layeredSource(from, to, RollupGrain.HOUR, filter, filterParams, params);
+    }
+
+    private String layeredSource(LocalDateTime from, LocalDateTime to, RollupGrain grain,
+                                 String filter, List<Object> filterParams, List<Object> params) {
+        Map<RollupGrain, List<LocalDateTime[]>> rollupRanges = new EnumMap<>(RollupGrain.class);
+        List<LocalDateTime[]> rawRanges = new ArrayList<>();
+        splitRange(from, to, grain, rollupRanges, rawRanges);
+        if (rollupRanges.isEmpty() && rawRanges.isEmpty()) {
+            rawRanges.add(new LocalDateTime[]{from, to});
+        }
+
+        List<String> parts = new ArrayList<>();
+        rollupRanges.forEach((g, ranges) -> {
+            parts.add("SELECT " + ROLLUP_SOURCE_COLUMNS + " FROM " + g.table +
+                    " WHERE " + rangeCondition("bucket", ranges, params) + filter);
+            params.addAll(filterParams);
+        });
+        if (!rawRanges.isEmpty()) {
+            parts.add("SELECT " + RAW_SOURCE_COLUMNS + " FROM " + TABLE +
+                    " WHERE " + rangeCondition("ingest_time", rawRanges, params) + filter +
+                    " GROUP BY bucket, " + ROLLUP_KEY_COLUMNS);
+            params.addAll(filterParams);
+        }
+        return "(" + String.join(" UNION ALL ", parts) + ")";
+    }
+
+    /** grain 경계에 맞는 안쪽 구간은 grain 에, 앞/뒤 자투리는 다음 grain(없으면 raw)에 배정한다. */
+    private void splitRange(LocalDateTime from, LocalDateTime to, RollupGrain grain,
+                            Map<RollupGrain, List<LocalDateTime[]>> rollupRanges, List<LocalDateTime[]> rawRanges) {
+        if (!from.isBefore(to)) {
+            return;
+        }
+        if (grain == null) {
+            rawRanges.add(new LocalDateTime[]{from, to});
+            return;
+        }
+
+        LocalDateTime rollupFrom = TimeUtils.ceilTo(from, grain.size);
+        LocalDateTime rollupTo = TimeUtils.floorTo(to, grain.size);
+        if (!rollupFrom.isBefore(rollupTo)) {
+            splitRange(from, to, grain.finer(), rollupRanges, rawRanges);
+            return;
+        }
+
+        splitRange(from, rollupFrom, grain.finer(), rollupRanges, rawRanges);
+        rollupRanges.computeIfAbsent(grain, k -> new ArrayList<>()).add(new LocalDateTime[]{rollupFrom, rollupTo});
+        splitRange(rollupTo, to, grain.finer(), rollupRanges, rawRanges);
+    }
+
+    private String rangeCondition(String column, List<LocalDateTime[]> ranges, List<Object> params) {
+        StringBuilder condition = new StringBuilder("(");
+        for (int i = 0; i < ranges.size(); i++) {
+            if (i > 0) {
+                condition.append(" OR ");
+            }
+            condition.append("(").append(column).append(" >= ? AND ").append(column).append(" < ?)");
+            params.add(ranges.get(i)[0]);
+            params.add(ranges.get(i)[1]);
+        }
+        return condition.append(")").toString();
     }
 
     // ========== Private Helpers ==========
 
-    private void appendSearchConditions(StringBuilder sql, List<Object> params,
-                                         LogSearchRequest request) {
+    /**
+     * 이번 페이지(size + 1 건)의 가장 오래된 ingest_time 을 p_time_order projection 으로 구한다.
+     * projection 컬럼(ingest_time, service, host, env, level)만 쓰는 조건이어야 하며, 행이 부족하면 null.
+     * keyset 이면 커서와 같은 시각의 행을 빼고 세므로 하한이 실제보다 같거나 이르게 잡혀 결과가 누락되지 않는다.
+     */
+    private LocalDateTime findPageLowerBound(LogSearchRequest request, LogCursor cursor) {
+        StringBuilder sql = new StringBuilder("SELECT ingest_time FROM " + TABLE + " WHERE 1=1");
+        List<Object> params = new ArrayList<>();
+        appendSearchConditions(sql, params, request);
+        if (cursor != null) {
+            sql.append(" AND ingest_time < ?");
+            params.add(cursor.ingestTime());
+        }
+        sql.append(" ORDER BY ingest_time DESC LIMIT 1 OFFSET ?");
+        long skipped = cursor != null ? 0L : (long) request.getPage() * request.getSize();
+        params.add(skipped + request.getSize());
+
+        List<LocalDateTime> rows = jdbc.query(tagged(sql.toString()),
+                (rs, rowNum) -> rs.getTimestamp("ingest_time").toLocalDateTime(),
+                params.toArray());
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * interval 버킷 시작 시각. 서버 timezone 이 아니라 UTC 기준으로 정렬해
+     * rollup/raw 구간 분할과 TimelineBucketCache 가 쓰는 TimeUtils.floorTo / ceilTo 경계와 일치시킨다.
+     * (서버가 KST 면 6 HOUR / 1 DAY 버킷이 UTC 경계에 걸쳐 같은 time_bucket 이 두 구간에서 나온다)
+     */
+    private String timeBucket(String column, String interval) {
+        return "toStartOfInterval(" + column + ", INTERVAL " + interval + ", 'UTC')";
+    }
+
+    /** 조회 SQL 끝에 호출 메서드/엔드포인트를 담은 log_comment 설정을 붙인다 (system.query_log 연결용). */
+    private String tagged(String sql) {
+        return sql + QueryContext.settingsClause();
+    }
+
+    // appendSearchConditions / mapToLogEntry / toSafeLocalDateTime 은 JMH 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+    void appendSearchConditions(StringBuilder sql, List<Object> params,
+                                LogSearchRequest request) {
         if (request.getFrom() != null) {
             sql.append(" AND ingest_time >= ?");
             params.add(request.getFrom());
@@ -455,13 +992,40 @@ public class LogRepository {
             params.add(request.getLevel().toUpperCase());
         }
         if (hasValue(request.getKeyword())) {
+            appendKeywordCondition(sql, params, request.getKeyword());
+        }
+    }
+
+    /**
+     * 키워드가 ngram 크기 이상이면 skip index(lower(message), lower(raw_event) 의 ngrambf_v1)를
+     * 사용할 수 있는 multiSearchAny(lower(col), [kw]) 형태로, 짧으면 positionCaseInsensitive 로 검색한다.
+     * lower() 와 positionCaseInsensitive 모두 ASCII 만 대소문자를 무시하므로 키워드도 ASCII 만 소문자화한다.
+     */
+    private void appendKeywordCondition(StringBuilder sql, List<Object> params, String keyword) {
+        if (keyword.length() >= KEYWORD_NGRAM_SIZE) {
+            String lowered = toLowerAscii(keyword);
+            sql.append(" AND (multiSearchAny(lower(message), [?])" +
+                    " OR multiSearchAny(lower(raw_event), [?]))");
+            params.add(lowered);
+            params.add(lowered);
+        } else {
             sql.append(" AND (positionCaseInsensitive(message, ?) > 0" +
                     " OR positionCaseInsensitive(raw_event, ?) > 0)");
-            params.add(request.getKeyword());
-            params.add(request.getKeyword());
+            params.add(keyword);
+            params.add(keyword);
         }
     }
 
+    private String toLowerAscii(String s) {
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= 'A' && chars[i] <= 'Z') {
+                chars[i] = (char) (chars[i] + ('a' - 'A'));
+            }
+        }
+        return new String(chars);
+    }
+
     private void appendOptionalFilter(StringBuilder sql, List<Object> params,
                                        String column, String value) {
         if (hasValue(value)) {
@@ -470,7 +1034,27 @@ public class LogRepository {
         }
     }
 
-    private LogEntryDto mapToLogEntry(ResultSet rs) throws SQLException {
+    private HostMinuteRow mapHostMinuteRow(ResultSet rs, int rowNum) throws SQLException {
+        return new HostMinuteRow(
+                rs.getString("host"),
+                rs.getString("service"),
+                rs.getString("env"),
+                toSafeLocalDateTime(rs.getTimestamp("minute")),
+                rs.getLong("log_count"),
+                rs.getLong("error_count"),
+                toSafeLocalDateTime(rs.getTimestamp("last_log_time"))
+        );
+    }
+
+    LogEntryDto mapToLogEntry(ResultSet rs) throws SQLException {
+        return baseLogEntry(rs, "message")
+                .stackTrace(emptyToNull(rs.getString("stack_trace")))
+                .rawEvent(rs.getString("raw_event"))
+                .build();
+    }
+
+    /** stack_trace/raw_event 를 제외한 공통 컬럼 매핑 */
+    private LogEntryDto.LogEntryDtoBuilder baseLogEntry(ResultSet rs, String messageColumn) throws SQLException {
         int httpStatus = rs.getInt("http_status");
         int responseTime = rs.getInt("response_time_ms");
 
@@ -482,18 +1066,36 @@ public class LogRepository {
                 .level(defaultIfBlank(rs.getString("level"), "UNKNOWN"))
                 .logger(emptyToNull(rs.getString("logger")))
                 .thread(emptyToNull(rs.getString("thread")))
-                .message(rs.getString("message"))
+                .message(rs.getString(messageColumn))
                 .httpMethod(emptyToNull(rs.getString("http_method")))
                 .httpPath(emptyToNull(rs.getString("http_path")))
                 .httpStatus(httpStatus > 0 ? httpStatus : null)
                 .responseTimeMs(responseTime > 0 ? responseTime : null)
-                .exceptionClass(emptyToNull(rs.getString("exception_class")))
-                .stackTrace(emptyToNull(rs.getString("stack_trace")))
-                .rawEvent(rs.getString("raw_event"))
-                .build();
+                .exceptionClass(emptyToNull(rs.getString("exception_class")));
+    }
+
+    /** baseLogEntry 의 RowBinary 버전 (UInt16/UInt32 는 Integer/Long 으로 읽힌다) */
+    private LogEntryDto.LogEntryDtoBuilder nativeLogEntry(ClickHouseBinaryFormatReader r, String messageColumn) {
+        int httpStatus = r.getInteger("http_status");
+        long responseTime = r.getLong("response_time_ms");
+
+        return LogEntryDto.builder()
+                .ingestTime(TimeUtils.toKst(r.getLocalDateTime("ingest_time")))
+                .host(r.getString("host"))
+                .service(r.getString("service"))
+                .env(r.getString("env"))
+                .level(defaultIfBlank(r.getString("level"), "UNKNOWN"))
+                .logger(emptyToNull(r.getString("logger")))
+                .thread(emptyToNull(r.getString("thread")))
+                .message(r.getString(messageColumn))
+                .httpMethod(emptyToNull(r.getString("http_method")))
+                .httpPath(emptyToNull(r.getString("http_path")))
+                .httpStatus(httpStatus > 0 ? httpStatus : null)
+                .responseTimeMs(responseTime > 0 ? (int) responseTime : null)
+                .exceptionClass(emptyToNull(r.getString("exception_class")));
     }
 
-    private LocalDateTime toSafeLocalDateTime(Timestamp ts) {
+    LocalDateTime toSafeLocalDateTime(Timestamp ts) {
         return ts != null ? TimeUtils.toKst(ts.toLocalDateTime()) : null;
     }
 
@@ -0,0 +1,42 @@
+package com.app.lighthouse.domain.log.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 로그 한 행을 가리키는 안정적인 키.
+ *
+ * <p>정렬 키 (service, level, ingest_time, host) 와 row_id 로 구성되어
+ * 상세 조회 시 primary key 범위로 바로 찾아가고, 같은 키·같은 메시지의 중복 행 중에서도 목록의 그 행을 가리킨다.
+ * 클라이언트에는 base64url 문자열로 전달한다.</p>
+ *
+ * @param ingestTime UTC ingest_time (밀리초 정밀도)
+ * @param rowId      row_id 의 UUID 문자열
+ */
+public record LogRowKey(String service, String level, LocalDateTime ingestTime, String host, String rowId) {
+
+    private static final String SEPARATOR = "\n";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                Long.toString(ingestTime.toInstant(ZoneOffset.UTC).toEpochMilli()), rowId, level, service, host);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LogRowKey decode(String key) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(key), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 5);
+            long epochMilli = Long.parseLong(parts[0]);
+            String rowId = UUID.fromString(parts[1]).toString();
+            LocalDateTime ingestTime = LocalDateTime.ofEpochSecond(
+                    Math.floorDiv(epochMilli, 1000), (int) Math.floorMod(epochMilli, 1000) * 1_000_000, ZoneOffset.UTC);
+            return new LogRowKey(parts[3], parts[2], ingestTime, parts[4], rowId);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("유효하지 않은 로그 key 값입니다.");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.app.lighthouse.domain.log.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.app.lighthouse.domain.log.repository.row.RouteTemplateRow;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ClickHouse api_route_templates (V7 migration) 적재.
+ *
+ * <p>API 조회는 이 테이블을 읽는 dict_api_route_templates 딕셔너리로 저장된 http_route 에 템플릿을 적용한다 (V11 migration).
+ * 동기화마다 새 version 으로 전체 목록을 적재한 뒤 이전 version 을 삭제하고,
+ * 딕셔너리는 최신 version 만 읽으므로 적재 도중의 일부 목록이 노출되지 않는다.</p>
+ */
+@Slf4j
+@Repository
+public class RouteTemplateRepository {
+
+    private static final String TABLE = "lighthouse.api_route_templates";
+    private static final String DICTIONARY = "lighthouse.dict_api_route_templates";
+
+    private final JdbcTemplate jdbc;
+
+    public RouteTemplateRepository(@Qualifier("clickHouseJdbcTemplate") JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public void replaceAll(List<RouteTemplateRow> templates) {
+        long version = System.currentTimeMillis();
+
+        if (!templates.isEmpty()) {
+            jdbc.batchUpdate("INSERT INTO " + TABLE + " (version, service, priority, pattern, route)" +
+                            " VALUES (?, ?, ?, ?, ?)",
+                    templates, templates.size(),
+                    (ps, row) -> {
+                        ps.setLong(1, version);
+                        ps.setString(2, row.service());
+                        ps.setInt(3, row.priority());
+                        ps.setString(4, row.pattern());
+                        ps.setString(5, row.route());
+                    });
+        }
+        jdbc.update("ALTER TABLE " + TABLE + " DELETE WHERE version < ?", version);
+
+        // 딕셔너리 LIFETIME(30~60초) 을 기다리지 않고 바로 반영. 권한이 없으면 주기 갱신에 맡긴다
+        try {
+            jdbc.execute("SYSTEM RELOAD DICTIONARY " + DICTIONARY);
+        } catch (DataAccessException e) {
+            log.warn("라우트 템플릿 딕셔너리 갱신 실패 (주기 갱신으로 반영): {}", e.getMessage());
+        }
+    }
+}
@@ -6,7 +6,10 @@ public record ApiDetailRow(
         LocalDateTime time,
         long requestCount,
         double avgResponseTimeMs,
+        double p50ResponseTimeMs,
+        double p90ResponseTimeMs,
         double p95ResponseTimeMs,
+        double p99ResponseTimeMs,
         long errorCount
 ) {
 }
@@ -2,10 +2,13 @@ package com.app.lighthouse.domain.log.repository.row;
 
 public record ApiRankingRow(
         String httpMethod,
-        String httpPath,
+        String httpRoute,
         long requestCount,
         double avgResponseTimeMs,
+        double p50ResponseTimeMs,
+        double p90ResponseTimeMs,
         double p95ResponseTimeMs,
+        double p99ResponseTimeMs,
         long errorCount
 ) {
 }
@@ -0,0 +1,9 @@
+package com.app.lighthouse.domain.log.repository.row;
+
+public record ApiTopKRow(
+        String httpMethod,
+        String httpRoute,
+        long estimatedCount,
+        long maxError
+) {
+}
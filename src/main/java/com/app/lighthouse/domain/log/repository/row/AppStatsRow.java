@@ -6,5 +6,8 @@ public record AppStatsRow(
         long warnCount,
         long requestCount,
         double avgResponseMs,
-        double p95ResponseMs
+        double p50ResponseMs,
+        double p90ResponseMs,
+        double p95ResponseMs,
+        double p99ResponseMs
 ) {}
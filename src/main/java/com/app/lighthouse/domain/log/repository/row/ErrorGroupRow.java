@@ -3,6 +3,7 @@ package com.app.lighthouse.domain.log.repository.row;
 import java.time.LocalDateTime;
 
 public record ErrorGroupRow(
+        String fingerprint,
         String exceptionClass,
         String message,
         long count,
@@ -0,0 +1,14 @@
+package com.app.lighthouse.domain.log.repository.row;
+
+import java.time.LocalDateTime;
+
+public record HostMinuteRow(
+        String host,
+        String service,
+        String env,
+        LocalDateTime minute,
+        long logCount,
+        long errorCount,
+        LocalDateTime lastLogTime
+) {
+}
@@ -0,0 +1,10 @@
+package com.app.lighthouse.domain.log.repository.row;
+
+import com.app.lighthouse.domain.log.dto.LogEntryDto;
+import com.app.lighthouse.domain.log.repository.LogCursor;
+
+public record LogSearchRow(
+        LogEntryDto entry,
+        LogCursor cursor
+) {
+}
@@ -0,0 +1,9 @@
+package com.app.lighthouse.domain.log.repository.row;
+
+public record RouteTemplateRow(
+        String service,
+        int priority,
+        String pattern,
+        String route
+) {
+}
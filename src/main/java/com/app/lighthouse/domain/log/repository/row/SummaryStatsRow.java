@@ -0,0 +1,15 @@
+package com.app.lighthouse.domain.log.repository.row;
+
+public record SummaryStatsRow(
+        long totalCount,
+        long errorCount,
+        long fatalCount,
+        long warnCount,
+        long requestCount,
+        int serviceCount,
+        double avgResponseTimeMs,
+        double p50ResponseTimeMs,
+        double p90ResponseTimeMs,
+        double p95ResponseTimeMs,
+        double p99ResponseTimeMs
+) {}
@@ -0,0 +1,96 @@
+package com.app.lighthouse.domain.log.service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.lighthouse.domain.log.dto.LogCountDto;
+import com.app.lighthouse.global.cache.BoundedTtlCache;
+import com.app.lighthouse.infra.clickhouse.ClickHouseQueryExecutor;
+import com.app.lighthouse.infra.websocket.LogCountNotificationService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * countMode=deferred 검색의 전체 건수를 백그라운드로 계산하고 searchId 로 보관한다.
+ *
+ * <p>완료되면 {@code /topic/logs/count/{searchId}} 로 결과를 전송하며,
+ * 구독 전에 끝났을 수 있으므로 {@code GET /api/logs/count/{searchId}} 로도 조회할 수 있다.</p>
+ */
+@Slf4j
+@Component
+public class DeferredCountRegistry implements MeterBinder {
+
+    private static final String PENDING = "PENDING";
+    private static final String DONE = "DONE";
+    private static final String FAILED = "FAILED";
+
+    private final ClickHouseQueryExecutor queryExecutor;
+    private final LogCountNotificationService notificationService;
+    private final BoundedTtlCache<String, CompletableFuture<Long>> counts;
+    private final Duration ttl;
+
+    public DeferredCountRegistry(ClickHouseQueryExecutor queryExecutor,
+                                 LogCountNotificationService notificationService,
+                                 @Value("${app.deferred-count.max-entries:1000}") int maxEntries,
+                                 @Value("${app.deferred-count.ttl-seconds:600}") long ttlSeconds) {
+        this.queryExecutor = queryExecutor;
+        this.notificationService = notificationService;
+        this.counts = new BoundedTtlCache<>("deferred-count", maxEntries);
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * count 조회를 백그라운드로 시작하고 searchId 를 반환한다.
+     * 백그라운드 executor 가 가득 차 시작하지 못하면 null 을 반환한다 (요청 스레드에서 대신 계산하지 않는다).
+     */
+    public String start(Callable<Long> countQuery) {
+        CompletableFuture<Long> future;
+        try {
+            future = queryExecutor.submit(countQuery);
+        } catch (RejectedExecutionException e) {
+            log.warn("지연 count 조회 거절 (백그라운드 큐 포화)");
+            return null;
+        }
+        String searchId = UUID.randomUUID().toString();
+        counts.put(searchId, future, ttl);
+
+        future.whenComplete((count, error) -> {
+            if (error != null) {
+                log.warn("지연 count 조회 실패: searchId={}, {}", searchId, error.getMessage());
+            }
+            notificationService.notifyCount(toDto(searchId, future));
+        });
+        return searchId;
+    }
+
+    public LogCountDto get(String searchId) {
+        CompletableFuture<Long> future = counts.getIfPresent(searchId);
+        if (future == null) {
+            throw new IllegalArgumentException("존재하지 않거나 만료된 searchId 입니다: " + searchId);
+        }
+        return toDto(searchId, future);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counts.bindTo(registry);
+    }
+
+    private LogCountDto toDto(String searchId, CompletableFuture<Long> future) {
+        if (!future.isDone()) {
+            return LogCountDto.builder().searchId(searchId).status(PENDING).build();
+        }
+        if (future.isCompletedExceptionally()) {
+            return LogCountDto.builder().searchId(searchId).status(FAILED).build();
+        }
+        return LogCountDto.builder().searchId(searchId).status(DONE).totalCount(future.join()).build();
+    }
+}
@@ -0,0 +1,187 @@
+package com.app.lighthouse.domain.log.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.app.lighthouse.domain.log.repository.LogRepository;
+import com.app.lighthouse.domain.log.repository.row.HostMinuteRow;
+import com.app.lighthouse.domain.log.repository.row.ServerStatusRow;
+import com.app.lighthouse.global.util.TimeUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * (host, service, env) 별 마지막 로그 시각과 분 단위 로그/에러 건수를 메모리에 보관한다.
+ *
+ * <p>처음에는 분 rollup 에서 최근 window 분을 읽어 채우고, 이후 tick 마다 watermark 이후 구간만
+ * raw 에서 읽어 더한다. 서버 상태 조회는 ClickHouse 를 거치지 않고 메모리에서 계산하므로
+ * 상태 화면 비용은 host 수와 무관하게 tick 당 작은 증분 조회 한 번이다.</p>
+ *
+ * <p>건수는 host 마다 window 크기의 int 링 버퍼 두 개(로그/에러)에 epoch 분 단위로 쌓는다.
+ * 모든 host 가 같은 head 분을 기준으로 슬롯을 공유하므로 슬롯별 시각은 따로 두지 않는다.
+ * lag 보다 늦게 유입되어 watermark 이전 시각으로 들어온 로그는 반영되지 않는다.</p>
+ */
+@Slf4j
+@Component
+public class HostRegistry {
+
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+
+    private final LogRepository logRepository;
+    private final int windowMinutes;
+    private final Duration lag;
+
+    private final Map<HostKey, HostCounters> hosts = new HashMap<>();
+    /** 다음 증분 조회 시작 시각 (UTC). null 이면 아직 초기 적재 전 */
+    private LocalDateTime watermark;
+    /** 링 버퍼의 가장 최근 슬롯에 해당하는 epoch 분 */
+    private long headMinute;
+
+    public HostRegistry(LogRepository logRepository,
+                        @Value("${app.host-registry.window-minutes:1440}") int windowMinutes,
+                        @Value("${app.host-registry.lag-ms:2000}") long lagMs) {
+        this.logRepository = logRepository;
+        this.windowMinutes = windowMinutes;
+        this.lag = Duration.ofMillis(lagMs);
+    }
+
+    @Scheduled(fixedDelayString = "${app.host-registry.interval-ms:5000}", initialDelay = 5000)
+    public void refresh() {
+        LocalDateTime until = TimeUtils.nowUtc().minus(lag);
+        long untilMinute = epochMinute(until);
+
+        LocalDateTime from;
+        synchronized (this) {
+            from = watermark;
+        }
+        // 처음이거나 조회 실패가 길어져 window 를 벗어났으면 rollup 에서 다시 채운다
+        boolean reload = from == null || epochMinute(from) <= untilMinute - windowMinutes;
+
+        List<HostMinuteRow> rows;
+        try {
+            rows = reload
+                    ? logRepository.getHostMinuteCounts(
+                            TimeUtils.floorTo(until, MINUTE).minusMinutes(windowMinutes - 1L), until)
+                    : logRepository.getHostMinuteCountsRaw(from, until);
+        } catch (Exception e) {
+            log.warn("host registry 갱신 실패: {}", e.getMessage());
+            return;
+        }
+
+        synchronized (this) {
+            if (reload) {
+                hosts.clear();
+                headMinute = untilMinute;
+            } else {
+                advance(untilMinute);
+            }
+            rows.forEach(this::apply);
+            watermark = until;
+        }
+    }
+
+    /**
+     * since(UTC) 이후 로그가 있는 host 목록을 마지막 로그 시각 내림차순으로 반환한다.
+     * 건수는 분 단위이므로 since 가 속한 분 전체가 포함된다.
+     *
+     * @param service null 이면 전체 서비스
+     * @return 초기 적재 전이거나 since 가 보관 구간보다 이전이면 null
+     */
+    public synchronized List<ServerStatusRow> getServerStatuses(LocalDateTime since, String service) {
+        if (watermark == null) {
+            return null;
+        }
+        long sinceMinute = epochMinute(since);
+        if (sinceMinute <= headMinute - windowMinutes) {
+            return null;
+        }
+
+        List<ServerStatusRow> result = new ArrayList<>();
+        hosts.forEach((key, counters) -> {
+            if (service != null && !service.equals(key.service())) {
+                return;
+            }
+            long logCount = 0;
+            long errorCount = 0;
+            for (long minute = sinceMinute; minute <= headMinute; minute++) {
+                int slot = slot(minute);
+                logCount += counters.logCounts[slot];
+                errorCount += counters.errorCounts[slot];
+            }
+            if (logCount > 0) {
+                result.add(new ServerStatusRow(key.host(), key.service(), key.env(),
+                        TimeUtils.toKst(counters.lastLogTime), logCount, errorCount));
+            }
+        });
+        result.sort(Comparator.comparing(ServerStatusRow::lastLogTime).reversed());
+        return result;
+    }
+
+    /** head 를 newHead 로 옮기며 지나간 슬롯을 비우고, window 동안 로그가 없던 host 는 제거한다. */
+    private void advance(long newHead) {
+        if (newHead <= headMinute) {
+            return;
+        }
+        long clearFrom = Math.max(headMinute + 1, newHead - windowMinutes + 1);
+        long oldest = newHead - windowMinutes;
+        hosts.values().removeIf(counters -> epochMinute(counters.lastLogTime) <= oldest);
+        for (HostCounters counters : hosts.values()) {
+            for (long minute = clearFrom; minute <= newHead; minute++) {
+                int slot = slot(minute);
+                counters.logCounts[slot] = 0;
+                counters.errorCounts[slot] = 0;
+            }
+        }
+        headMinute = newHead;
+    }
+
+    private void apply(HostMinuteRow row) {
+        long minute = epochMinute(TimeUtils.toUtc(row.minute()));
+        if (minute <= headMinute - windowMinutes || minute > headMinute) {
+            return;
+        }
+        HostCounters counters = hosts.computeIfAbsent(
+                new HostKey(row.host(), row.service(), row.env()), k -> new HostCounters(windowMinutes));
+        int slot = slot(minute);
+        counters.logCounts[slot] += (int) row.logCount();
+        counters.errorCounts[slot] += (int) row.errorCount();
+
+        LocalDateTime lastLogTime = TimeUtils.toUtc(row.lastLogTime());
+        if (counters.lastLogTime == null || lastLogTime.isAfter(counters.lastLogTime)) {
+            counters.lastLogTime = lastLogTime;
+        }
+    }
+
+    private int slot(long minute) {
+        return (int) Math.floorMod(minute, (long) windowMinutes);
+    }
+
+    private static long epochMinute(LocalDateTime utc) {
+        return Math.floorDiv(utc.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private record HostKey(String host, String service, String env) {}
+
+    private static final class HostCounters {
+
+        private final int[] logCounts;
+        private final int[] errorCounts;
+        /** UTC */
+        private LocalDateTime lastLogTime;
+
+        HostCounters(int windowMinutes) {
+            this.logCounts = new int[windowMinutes];
+            this.errorCounts = new int[windowMinutes];
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.app.lighthouse.domain.log.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.app.lighthouse.domain.log.dto.LogEntryDto;
+
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 로그 export 포맷. 행 단위로 바로 출력하므로 전체 결과를 메모리에 올리지 않는다.
+ */
+public enum LogExportFormat {
+
+    /**
+     * 한 줄에 JSON 객체 하나. 애플리케이션 JsonMapper 로 직렬화하므로 필드명/null 생략/시각 형식이 API 응답과 같다.
+     * SequenceWriter 가 행마다 바로 출력하며, 구분자는 행 사이에만 쓰이므로 마지막 줄바꿈은 finish 에서 붙인다.
+     */
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        RowWriter open(Writer out, JsonMapper jsonMapper) {
+            SequenceWriter sequence = jsonMapper.writer()
+                    .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                    .withRootValueSeparator("\n")
+                    .writeValues(out);
+            return new RowWriter() {
+                private boolean empty = true;
+
+                @Override
+                public void write(LogEntryDto entry) throws IOException {
+                    try {
+                        sequence.write(entry);
+                    } catch (JacksonIOException e) {
+                        throw unwrap(e);
+                    }
+                    empty = false;
+                }
+
+                @Override
+                public void finish() throws IOException {
+                    try {
+                        sequence.close();
+                    } catch (JacksonIOException e) {
+                        throw unwrap(e);
+                    }
+                    if (!empty) {
+                        out.write('\n');
+                    }
+                }
+            };
+        }
+    },
+
+    /** RFC 4180 CSV (헤더 포함, 모든 값 따옴표 처리) */
+    CSV("text/csv", "csv") {
+        @Override
+        RowWriter open(Writer out, JsonMapper jsonMapper) throws IOException {
+            out.write("ingestTime,host,service,env,level,logger,thread,message,httpMethod,httpPath," +
+                    "httpStatus,responseTimeMs,exceptionClass,stackTrace,rawEvent\r\n");
+            return new RowWriter() {
+                @Override
+                public void write(LogEntryDto entry) throws IOException {
+                    writeCsvRow(out, entry);
+                }
+
+                @Override
+                public void finish() {
+                }
+            };
+        }
+
+        private void writeCsvRow(Writer out, LogEntryDto e) throws IOException {
+            csvField(out, formatTime(e.getIngestTime()));
+            out.write(',');
+            csvField(out, e.getHost());
+            out.write(',');
+            csvField(out, e.getService());
+            out.write(',');
+            csvField(out, e.getEnv());
+            out.write(',');
+            csvField(out, e.getLevel());
+            out.write(',');
+            csvField(out, e.getLogger());
+            out.write(',');
+            csvField(out, e.getThread());
+            out.write(',');
+            csvField(out, e.getMessage());
+            out.write(',');
+            csvField(out, e.getHttpMethod());
+            out.write(',');
+            csvField(out, e.getHttpPath());
+            out.write(',');
+            csvField(out, e.getHttpStatus() != null ? e.getHttpStatus().toString() : null);
+            out.write(',');
+            csvField(out, e.getResponseTimeMs() != null ? e.getResponseTimeMs().toString() : null);
+            out.write(',');
+            csvField(out, e.getExceptionClass());
+            out.write(',');
+            csvField(out, e.getStackTrace());
+            out.write(',');
+            csvField(out, e.getRawEvent());
+            out.write("\r\n");
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    LogExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static LogExportFormat from(String format) {
+        if (format == null || format.isBlank()) {
+            return NDJSON;
+        }
+        for (LogExportFormat f : values()) {
+            if (f.extension.equalsIgnoreCase(format)) {
+                return f;
+            }
+        }
+        throw new IllegalArgumentException("허용되지 않는 format 값입니다: " + format);
+    }
+
+    /** out 에 export 한 건을 쓰는 RowWriter 를 연다. 헤더가 있는 포맷은 여기서 헤더를 쓴다. */
+    abstract RowWriter open(Writer out, JsonMapper jsonMapper) throws IOException;
+
+    /** export 한 건의 행 단위 출력. finish 는 남은 내용을 out 에 쓰지만 out 을 닫지는 않는다. */
+    interface RowWriter {
+
+        void write(LogEntryDto entry) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    // ========== Private Helpers ==========
+
+    private static String formatTime(LocalDateTime time) {
+        return time != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(time) : null;
+    }
+
+    /** 클라이언트 연결 종료 등 출력 오류는 IOException 으로 돌려 streamLogs 가 쿼리를 cancel 하게 한다. */
+    private static IOException unwrap(JacksonIOException e) {
+        return e.getCause() instanceof IOException io ? io : new IOException(e);
+    }
+
+    private static void csvField(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+}
@@ -1,23 +1,42 @@
 package com.app.lighthouse.domain.log.service;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.app.lighthouse.domain.log.dto.LogCountDto;
 import com.app.lighthouse.domain.log.dto.LogEntryDto;
 import com.app.lighthouse.domain.log.dto.LogSearchRequest;
 import com.app.lighthouse.domain.log.dto.LogSearchResponse;
 import com.app.lighthouse.domain.log.dto.LogTimelineDto;
 import com.app.lighthouse.domain.log.repository.LogRepository;
+import com.app.lighthouse.domain.log.repository.LogRowKey;
+import com.app.lighthouse.domain.log.repository.row.LogSearchRow;
 
 import com.app.lighthouse.global.util.TimeUtils;
+import com.app.lighthouse.infra.clickhouse.ClickHouseQueryExecutor;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import tools.jackson.databind.json.JsonMapper;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LogService {
@@ -28,25 +47,121 @@ public class LogService {
     );
     private static final int MAX_QUERY_DAYS = 7;
 
+    private static final Set<String> VIEWS = Set.of("full", "summary");
+
+    private static final String COUNT_EXACT = "exact";
+    private static final String COUNT_ESTIMATED = "estimated";
+    private static final String COUNT_DEFERRED = "deferred";
+    /** deferred 요청이 백그라운드 큐 포화로 거절된 경우의 응답 countMode */
+    private static final String COUNT_UNAVAILABLE = "unavailable";
+
     private final LogRepository logRepository;
+    private final ClickHouseQueryExecutor queryExecutor;
+    private final TimelineBucketCache timelineBucketCache;
+    private final DeferredCountRegistry deferredCountRegistry;
+    private final JsonMapper jsonMapper;
+
+    @Value("${app.log-export.fetch-size:5000}")
+    private int exportFetchSize;
+
+    @Value("${app.log-export.max-rows:5000000}")
+    private long exportMaxRows;
 
     public LogSearchResponse searchLogs(LogSearchRequest request) {
         resolveTimeRange(request);
         validateTimeRange(request.getFrom(), request.getTo());
+        String countMode = resolveCountMode(request.getCountMode());
+        validateView(request.getView());
 
-        List<LogEntryDto> logs = logRepository.searchLogs(request);
-        long totalCount = logRepository.countLogs(request);
-        boolean hasNext = (long) (request.getPage() + 1) * request.getSize() < totalCount;
+        List<LogSearchRow> rows;
+        Long totalCount = null;
+        String searchId = null;
+        try (var fanOut = queryExecutor.fanOut()) {
+            var rowsTask = fanOut.fork(() -> logRepository.searchLogs(request));
+            Future<Long> countTask = switch (countMode) {
+                case COUNT_EXACT -> fanOut.fork(() -> logRepository.countLogs(request));
+                case COUNT_ESTIMATED -> fanOut.fork(() -> logRepository.estimateLogs(request));
+                default -> null;
+            };
+            if (countTask == null) {
+                searchId = deferredCountRegistry.start(() -> logRepository.countLogs(request));
+                if (searchId == null) {
+                    countMode = COUNT_UNAVAILABLE;
+                }
+            }
+            rows = fanOut.join(rowsTask);
+            if (countTask != null) {
+                totalCount = fanOut.join(countTask);
+            }
+        }
+
+        boolean hasNext = rows.size() > request.getSize();
+        if (hasNext) {
+            rows = rows.subList(0, request.getSize());
+        }
+        List<LogEntryDto> logs = rows.stream().map(LogSearchRow::entry).collect(Collectors.toList());
+        String nextCursor = hasNext ? rows.get(rows.size() - 1).cursor().encode() : null;
 
         return LogSearchResponse.builder()
                 .logs(logs)
                 .totalCount(totalCount)
+                .countMode(countMode)
+                .searchId(searchId)
                 .page(request.getPage())
                 .size(request.getSize())
                 .hasNext(hasNext)
+                .nextCursor(nextCursor)
                 .build();
     }
 
+    /**
+     * 검색 조건에 맞는 로그를 NDJSON/CSV 로 스트리밍한다.
+     * 조건 검증과 행 수 상한(max-rows) 확인은 즉시 수행하고(오류 시 400), 조회/출력은 반환된 body 가 응답 스트림에 쓸 때 실행된다.
+     * 확인 이후 유입된 행 때문에 스트리밍 중 상한을 넘으면 응답을 정상 종료하지 않으므로(gzip trailer / 마지막 chunk 없음)
+     * 클라이언트가 잘린 파일을 완전한 파일로 받지 않는다.
+     */
+    public StreamingResponseBody exportLogs(LogSearchRequest request, LogExportFormat format, boolean gzip) {
+        resolveTimeRange(request);
+        validateTimeRange(request.getFrom(), request.getTo());
+        validateExportSize(request);
+
+        return outputStream -> {
+            ExportGzipOutputStream gzipStream = gzip ? new ExportGzipOutputStream(outputStream) : null;
+            OutputStream target = gzipStream != null ? gzipStream : outputStream;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+            try {
+                LogExportFormat.RowWriter rowWriter = format.open(writer, jsonMapper);
+                long rows = logRepository.streamLogs(request, exportFetchSize, exportMaxRows, rowWriter::write);
+                if (rows > exportMaxRows) {
+                    log.warn("로그 export 가 최대 행 수를 넘어 응답을 중단합니다: format={}, maxRows={}", format, exportMaxRows);
+                    throw new IllegalStateException("export 대상 로그가 최대 " + exportMaxRows + "건을 초과했습니다.");
+                }
+                rowWriter.finish();
+                writer.flush();
+                if (gzipStream != null) {
+                    gzipStream.finish();
+                }
+                log.info("로그 export 완료: format={}, rows={}", format, rows);
+            } catch (UncheckedIOException e) {
+                log.info("로그 export 중단 (클라이언트 연결 종료): {}", e.getCause().getMessage());
+                throw e.getCause();
+            } finally {
+                if (gzipStream != null) {
+                    gzipStream.release();
+                }
+            }
+        };
+    }
+
+    public LogEntryDto getLog(String key) {
+        return logRepository.findLog(LogRowKey.decode(key))
+                .orElseThrow(() -> new IllegalArgumentException("로그를 찾을 수 없습니다: " + key));
+    }
+
+    public LogCountDto getDeferredCount(String searchId) {
+        return deferredCountRegistry.get(searchId);
+    }
+
     public LogTimelineDto getTimeline(LocalDateTime from, LocalDateTime to,
                                        String interval, String service, String env) {
         if (from == null && to == null) {
@@ -69,7 +184,7 @@ public class LogService {
         }
         validateInterval(interval);
 
-        List<LogTimelineDto.TimePoint> points = logRepository.getLogTimeline(from, to, interval, service, env)
+        List<LogTimelineDto.TimePoint> points = timelineBucketCache.getLogTimeline(from, to, interval, service, env)
                 .stream()
                 .map(r -> LogTimelineDto.TimePoint.builder()
                         .time(r.time())
@@ -111,6 +226,38 @@ public class LogService {
         }
     }
 
+    /**
+     * export 대상이 max-rows 를 넘으면 스트리밍 전에 거절한다.
+     * EXPLAIN ESTIMATE 는 상한값이므로 그 이하이면 정확한 count 를 생략한다.
+     */
+    private void validateExportSize(LogSearchRequest request) {
+        if (logRepository.estimateLogs(request) <= exportMaxRows) {
+            return;
+        }
+        long count = logRepository.countLogs(request);
+        if (count > exportMaxRows) {
+            throw new IllegalArgumentException("export 대상 로그가 최대 " + exportMaxRows + "건을 초과합니다 ("
+                    + count + "건). 조회 구간이나 조건을 좁혀 주세요.");
+        }
+    }
+
+    private String resolveCountMode(String countMode) {
+        if (countMode == null || countMode.isBlank()) {
+            return COUNT_EXACT;
+        }
+        String mode = countMode.toLowerCase();
+        if (!mode.equals(COUNT_EXACT) && !mode.equals(COUNT_ESTIMATED) && !mode.equals(COUNT_DEFERRED)) {
+            throw new IllegalArgumentException("허용되지 않는 countMode 값입니다: " + countMode);
+        }
+        return mode;
+    }
+
+    private void validateView(String view) {
+        if (view != null && !view.isBlank() && !VIEWS.contains(view.toLowerCase())) {
+            throw new IllegalArgumentException("허용되지 않는 view 값입니다: " + view);
+        }
+    }
+
     private void validateInterval(String interval) {
         if (!ALLOWED_INTERVALS.contains(interval.toUpperCase())) {
             throw new IllegalArgumentException("허용되지 않는 interval 값입니다: " + interval);
@@ -125,4 +272,20 @@ public class LogService {
         if (hours <= 72) return "1 HOUR";
         return "6 HOUR";
     }
+
+    /**
+     * export 용 gzip 스트림. 응답 스트림은 닫지 않으며, release 로 native Deflater 를 즉시 해제한다.
+     * GZIPOutputStream.finish 는 Deflater 를 해제하지 않고, close 는 응답 스트림까지 닫으므로 따로 둔다.
+     */
+    private static final class ExportGzipOutputStream extends GZIPOutputStream {
+
+        ExportGzipOutputStream(OutputStream out) throws IOException {
+            super(out, 64 * 1024);
+        }
+
+        /** 남은 압축 데이터는 쓰지 않고 Deflater 만 해제한다. 여러 번 호출해도 안전하다. */
+        void release() {
+            def.end();
+        }
+    }
 }
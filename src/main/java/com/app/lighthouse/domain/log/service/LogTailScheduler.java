@@ -0,0 +1,112 @@
+package com.app.lighthouse.domain.log.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.app.lighthouse.domain.log.dto.LogTailDto;
+import com.app.lighthouse.domain.log.repository.LogCursor;
+import com.app.lighthouse.domain.log.repository.LogRepository;
+import com.app.lighthouse.domain.log.repository.row.LogSearchRow;
+import com.app.lighthouse.global.util.TimeUtils;
+import com.app.lighthouse.infra.clickhouse.ClickHouseQueryExecutor;
+import com.app.lighthouse.infra.websocket.LogTailNotificationService;
+import com.app.lighthouse.infra.websocket.TopicSubscriptionRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실시간 로그 tail 스트림 ({@code /topic/logs/tail/{service}}).
+ *
+ * <p>구독 중인 service 마다 (ingest_time, host, row_id) 커서를 하나씩 두고, tick 마다 커서 이후 행만 조회해 전송한다.
+ * 같은 service 를 구독한 클라이언트들은 하나의 폴링을 공유한다.
+ * 수집 지연(lag) 안쪽의 최근 로그는 아직 늦게 도착할 수 있으므로 lag 가 지난 뒤에 읽는다.</p>
+ *
+ * <p>row_id 가 행마다 유일하므로 배치가 같은 (ingest_time, host) 행들 중간에서 잘려도
+ * 커서를 마지막으로 보낸 행에 두면 다음 tick 이 나머지 행부터 이어서 읽는다.</p>
+ */
+@Slf4j
+@Component
+public class LogTailScheduler {
+
+    /** 새 구독의 시작 커서. 가장 작은 UUID 라 시작 시각과 같은 시각의 행도 모두 포함한다. */
+    private static final String MIN_ROW_ID = "00000000-0000-0000-0000-000000000000";
+
+    private final LogRepository logRepository;
+    private final ClickHouseQueryExecutor queryExecutor;
+    private final LogTailNotificationService notificationService;
+    private final TopicSubscriptionRegistry subscriptionRegistry;
+    private final Duration lag;
+    private final int batchSize;
+
+    private final Map<String, LogCursor> cursors = new HashMap<>();
+
+    public LogTailScheduler(LogRepository logRepository,
+                            ClickHouseQueryExecutor queryExecutor,
+                            LogTailNotificationService notificationService,
+                            TopicSubscriptionRegistry subscriptionRegistry,
+                            @Value("${app.log-tail.lag-ms:2000}") long lagMs,
+                            @Value("${app.log-tail.batch-size:500}") int batchSize) {
+        this.logRepository = logRepository;
+        this.queryExecutor = queryExecutor;
+        this.notificationService = notificationService;
+        this.subscriptionRegistry = subscriptionRegistry;
+        this.lag = Duration.ofMillis(lagMs);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.log-tail.interval-ms:1000}", initialDelay = 5000)
+    public void pollTails() {
+        List<String> services = subscriptionRegistry
+                .activeDestinations(LogTailNotificationService.TOPIC_LOG_TAIL_PREFIX)
+                .keySet().stream()
+                .map(d -> d.substring(LogTailNotificationService.TOPIC_LOG_TAIL_PREFIX.length()))
+                .filter(s -> !s.isBlank() && !s.contains("/"))
+                .toList();
+        cursors.keySet().retainAll(services);
+        if (services.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime until = TimeUtils.nowUtc().minus(lag);
+        // 새로 구독된 service 는 현재 시점부터 tail
+        services.forEach(service -> cursors.computeIfAbsent(service, k -> new LogCursor(until, "", MIN_ROW_ID)));
+
+        try (var fanOut = queryExecutor.fanOut()) {
+            Map<String, Future<List<LogSearchRow>>> tasks = new HashMap<>();
+            for (String service : services) {
+                LogCursor cursor = cursors.get(service);
+                tasks.put(service, fanOut.fork(() ->
+                        logRepository.getLogsAfter(service, cursor, until, batchSize)));
+            }
+
+            tasks.forEach((service, task) -> {
+                try {
+                    publish(service, fanOut.join(task));
+                } catch (Exception e) {
+                    log.warn("로그 tail 조회 실패: service={}, {}", service, e.getMessage());
+                }
+            });
+        }
+    }
+
+    private void publish(String service, List<LogSearchRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        cursors.put(service, rows.get(rows.size() - 1).cursor());
+
+        notificationService.notifyNewLogs(service, LogTailDto.builder()
+                .service(service)
+                .logs(rows.stream().map(LogSearchRow::entry).toList())
+                .build());
+    }
+}
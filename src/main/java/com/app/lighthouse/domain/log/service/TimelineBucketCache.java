@@ -0,0 +1,193 @@
+package com.app.lighthouse.domain.log.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.lighthouse.domain.log.repository.LogRepository;
+import com.app.lighthouse.domain.log.repository.row.TimelineRow;
+import com.app.lighthouse.global.util.TimeUtils;
+import com.app.lighthouse.infra.clickhouse.ClickHouseQueryExecutor;
+
+/**
+ * 로그 타임라인의 닫힌 버킷을 (interval, service, env) 시리즈별로 메모리에 보관한다.
+ *
+ * <p>조회 구간 [from, to) 를 세 부분으로 나눈다.
+ * 앞쪽 자투리(from 이 interval 경계가 아닐 때)와 아직 열려 있는 뒤쪽(settle 이내)은 매번 ClickHouse 에서 읽고,
+ * 그 사이 닫힌 버킷은 캐시에서 꺼낸 뒤 캐시에 없는 범위만 조회해 채운다.
+ * 따라서 폴링 1회의 스캔 비용은 조회 구간 길이가 아니라 interval + settle 에 비례한다.
+ * 분할 경계는 UTC epoch 기준이며, LogRepository 도 toStartOfInterval 을 'UTC' 로 정렬하므로
+ * 서버 timezone 과 무관하게 한 버킷이 두 구간에 걸치지 않는다.</p>
+ *
+ * <p>settle 이후에 늦게 유입된 로그는 이미 닫힌 버킷에 반영되지 않으므로,
+ * settle 은 수집 파이프라인의 최대 지연보다 크게 잡아야 한다.</p>
+ */
+@Component
+public class TimelineBucketCache {
+
+    private final LogRepository logRepository;
+    private final ClickHouseQueryExecutor queryExecutor;
+    private final Duration settle;
+    private final int maxBucketsPerSeries;
+    private final Map<SeriesKey, Series> seriesMap;
+
+    public TimelineBucketCache(
+            LogRepository logRepository,
+            ClickHouseQueryExecutor queryExecutor,
+            @Value("${app.timeline-cache.max-series:128}") int maxSeries,
+            @Value("${app.timeline-cache.max-buckets-per-series:2880}") int maxBucketsPerSeries,
+            @Value("${app.timeline-cache.settle-seconds:120}") long settleSeconds) {
+        this.logRepository = logRepository;
+        this.queryExecutor = queryExecutor;
+        this.settle = Duration.ofSeconds(settleSeconds);
+        this.maxBucketsPerSeries = maxBucketsPerSeries;
+        this.seriesMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SeriesKey, Series> eldest) {
+                return size() > maxSeries;
+            }
+        };
+    }
+
+    /**
+     * {@link LogRepository#getLogTimeline} 과 같은 결과를 반환한다.
+     *
+     * @param from UTC 시작 시각
+     * @param to   UTC 종료 시각
+     */
+    public List<TimelineRow> getLogTimeline(LocalDateTime from, LocalDateTime to,
+                                            String interval, String service, String env) {
+        Duration step = TimeUtils.parseInterval(interval);
+        LocalDateTime closedFrom = TimeUtils.ceilTo(from, step);
+        LocalDateTime closedTo = min(TimeUtils.floorTo(to, step),
+                TimeUtils.floorTo(TimeUtils.nowUtc().minus(settle), step));
+
+        long closedBuckets = closedFrom.isBefore(closedTo)
+                ? Duration.between(closedFrom, closedTo).dividedBy(step) : 0;
+        if (closedBuckets == 0 || closedBuckets > maxBucketsPerSeries) {
+            return logRepository.getLogTimeline(from, to, interval, service, env);
+        }
+
+        Series series = series(new SeriesKey(interval.toUpperCase(), emptyToNull(service), emptyToNull(env)), step);
+        Plan plan = series.plan(closedFrom, closedTo);
+
+        List<TimelineRow> rows = new ArrayList<>(plan.cached());
+        try (var fanOut = queryExecutor.fanOut()) {
+            Future<List<TimelineRow>> headTask = from.isBefore(closedFrom)
+                    ? fanOut.fork(() -> logRepository.getLogTimeline(from, closedFrom, interval, service, env))
+                    : null;
+            Future<List<TimelineRow>> tailTask = closedTo.isBefore(to)
+                    ? fanOut.fork(() -> logRepository.getLogTimeline(closedTo, to, interval, service, env))
+                    : null;
+            List<Future<List<TimelineRow>>> gapTasks = new ArrayList<>();
+            for (LocalDateTime[] gap : plan.gaps()) {
+                gapTasks.add(fanOut.fork(() -> logRepository.getLogTimeline(gap[0], gap[1], interval, service, env)));
+            }
+
+            for (int i = 0; i < gapTasks.size(); i++) {
+                LocalDateTime[] gap = plan.gaps().get(i);
+                List<TimelineRow> gapRows = fanOut.join(gapTasks.get(i));
+                series.merge(gap[0], gap[1], gapRows, maxBucketsPerSeries);
+                rows.addAll(gapRows);
+            }
+            if (headTask != null) {
+                rows.addAll(fanOut.join(headTask));
+            }
+            if (tailTask != null) {
+                rows.addAll(fanOut.join(tailTask));
+            }
+        }
+
+        rows.sort(Comparator.comparing(TimelineRow::time));
+        return rows;
+    }
+
+    public void invalidateAll() {
+        synchronized (seriesMap) {
+            seriesMap.clear();
+        }
+    }
+
+    private Series series(SeriesKey key, Duration step) {
+        synchronized (seriesMap) {
+            return seriesMap.computeIfAbsent(key, k -> new Series(step));
+        }
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static String emptyToNull(String s) {
+        return (s == null || s.isBlank()) ? null : s;
+    }
+
+    private record SeriesKey(String interval, String service, String env) {}
+
+    /** 캐시에서 꺼낸 닫힌 버킷과 ClickHouse 에서 새로 읽어야 할 [from, to) 범위 목록 */
+    private record Plan(List<TimelineRow> cached, List<LocalDateTime[]> gaps) {}
+
+    /**
+     * 한 시리즈의 닫힌 버킷. [coveredFrom, coveredTo) 는 조회가 끝난 연속 구간이며,
+     * 그 안에서 행이 없는 버킷은 로그가 없었던 버킷이다. 키는 UTC 버킷 시작 시각.
+     */
+    private static final class Series {
+
+        private final Duration step;
+        private final NavigableMap<LocalDateTime, TimelineRow> buckets = new TreeMap<>();
+        private LocalDateTime coveredFrom;
+        private LocalDateTime coveredTo;
+
+        Series(Duration step) {
+            this.step = step;
+        }
+
+        synchronized Plan plan(LocalDateTime from, LocalDateTime to) {
+            if (coveredFrom == null || !to.isAfter(coveredFrom) || !from.isBefore(coveredTo)) {
+                return new Plan(List.of(), List.of(new LocalDateTime[]{from, to}));
+            }
+            List<LocalDateTime[]> gaps = new ArrayList<>(2);
+            if (from.isBefore(coveredFrom)) {
+                gaps.add(new LocalDateTime[]{from, coveredFrom});
+            }
+            if (to.isAfter(coveredTo)) {
+                gaps.add(new LocalDateTime[]{coveredTo, to});
+            }
+            LocalDateTime cachedFrom = from.isBefore(coveredFrom) ? coveredFrom : from;
+            LocalDateTime cachedTo = to.isAfter(coveredTo) ? coveredTo : to;
+            return new Plan(new ArrayList<>(buckets.subMap(cachedFrom, true, cachedTo, false).values()), gaps);
+        }
+
+        synchronized void merge(LocalDateTime from, LocalDateTime to, List<TimelineRow> rows, int maxBuckets) {
+            if (coveredFrom == null || to.isBefore(coveredFrom) || from.isAfter(coveredTo)) {
+                // 기존 구간과 이어지지 않으면 새 구간으로 교체 (연속 구간 하나만 유지)
+                buckets.clear();
+                coveredFrom = from;
+                coveredTo = to;
+            } else {
+                coveredFrom = min(coveredFrom, from);
+                coveredTo = to.isAfter(coveredTo) ? to : coveredTo;
+            }
+            for (TimelineRow row : rows) {
+                buckets.put(TimeUtils.toUtc(row.time()), row);
+            }
+
+            // 버킷 수 상한: 오래된 쪽부터 버린다
+            LocalDateTime oldest = coveredTo.minus(step.multipliedBy(maxBuckets));
+            if (coveredFrom.isBefore(oldest)) {
+                coveredFrom = oldest;
+                buckets.headMap(oldest).clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.app.lighthouse.global.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 크기 제한(LRU) + 항목별 TTL 을 갖는 in-process read-through 캐시.
+ *
+ * <p>같은 키에 대한 동시 miss 는 하나의 로더 호출을 공유한다(진행 중인 결과를 future 로 보관).
+ * 로더가 실패하면 항목을 제거하고 예외를 그대로 전달하므로 실패 결과는 캐시되지 않는다.</p>
+ */
+public class BoundedTtlCache<K, V> implements MeterBinder {
+
+    private final String name;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedTtlCache(String name, int maxSize) {
+        this.name = name;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key, Duration ttl, Supplier<V> loader) {
+        Entry<V> entry;
+        boolean owner = false;
+
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && !entry.isExpired(System.nanoTime())) {
+                hits.increment();
+            } else {
+                misses.increment();
+                entry = new Entry<>(new CompletableFuture<>(), System.nanoTime() + ttl.toNanos());
+                entries.put(key, entry);
+                owner = true;
+            }
+        }
+
+        if (owner) {
+            try {
+                entry.value().complete(loader.get());
+            } catch (RuntimeException | Error e) {
+                synchronized (this) {
+                    entries.remove(key, entry);
+                }
+                entry.value().completeExceptionally(e);
+                throw e;
+            }
+        }
+        return await(entry.value());
+    }
+
+    /** 로더 없이 값을 직접 저장한다. */
+    public synchronized void put(K key, V value, Duration ttl) {
+        entries.put(key, new Entry<>(CompletableFuture.completedFuture(value), System.nanoTime() + ttl.toNanos()));
+    }
+
+    /** 만료되지 않은 값이 있으면 반환하고, 없으면 null (로딩 중인 항목은 완료를 기다린다) */
+    public V getIfPresent(K key) {
+        Entry<V> entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry == null || entry.isExpired(System.nanoTime())) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+        }
+        return await(entry.value());
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("lighthouse.cache.gets", this, BoundedTtlCache::hitCount)
+                .tag("cache", name).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("lighthouse.cache.gets", this, BoundedTtlCache::missCount)
+                .tag("cache", name).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("lighthouse.cache.evictions", this, BoundedTtlCache::evictionCount)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("lighthouse.cache.size", this, BoundedTtlCache::size)
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry<V>(CompletableFuture<V> value, long expiresAtNanos) {
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
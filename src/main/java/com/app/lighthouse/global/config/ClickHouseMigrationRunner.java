@@ -9,6 +9,8 @@ import java.util.Comparator;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
@@ -22,6 +24,16 @@ import org.springframework.jdbc.core.JdbcTemplate;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * classpath:db/clickhouse/V*.sql 을 버전 순으로 적용한다.
+ *
+ * <p>스크립트에 {@code -- @pause-ingestion <view>} 줄이 있으면 해당 Kafka 적재 MV 를 영구 DETACH 한 뒤 실행하고,
+ * 성공/실패와 무관하게 다시 ATTACH 한 다음에 버전을 기록한다. 실행 중 프로세스가 죽어 DETACH 상태로 남아도
+ * 버전이 기록되지 않았으므로 다음 기동 시 같은 스크립트를 다시 실행하면서 ATTACH 된다.
+ * 이런 스크립트는 적재가 멈춘 상태에서 재실행해도 결과가 같도록 작성한다.</p>
+ *
+ * <p>INSERT 는 클라이언트 타임아웃 뒤에도 서버에서 계속 실행될 수 있어 재시도하지 않는다.</p>
+ */
 @Slf4j
 @Configuration
 public class ClickHouseMigrationRunner {
@@ -29,6 +41,9 @@ public class ClickHouseMigrationRunner {
     private static final int MAX_RETRIES = 5;
     private static final long INITIAL_BACKOFF_MS = 3000;
 
+    private static final Pattern PAUSE_INGESTION =
+            Pattern.compile("^--\\s*@pause-ingestion\\s+([\\w.]+)\\s*$", Pattern.MULTILINE);
+
     @Bean(name = "clickHouseMigration")
     public Object clickHouseMigration(
             @Qualifier("clickHouseDataSource") DataSource dataSource) throws Exception {
@@ -66,9 +81,21 @@ public class ClickHouseMigrationRunner {
 
             String sql = script.getContentAsString(StandardCharsets.UTF_8);
             List<String> statements = splitStatements(sql);
+            String ingestionView = findIngestionView(sql);
 
-            for (String stmt : statements) {
-                executeWithRetry(jdbc, stmt, filename);
+            if (ingestionView != null) {
+                log.info("Pausing ingestion ({}) for migration {}", ingestionView, filename);
+                executeWithRetry(jdbc, "DETACH TABLE IF EXISTS " + ingestionView + " PERMANENTLY", filename);
+            }
+            try {
+                for (String stmt : statements) {
+                    executeWithRetry(jdbc, stmt, filename);
+                }
+            } finally {
+                if (ingestionView != null) {
+                    executeWithRetry(jdbc, "ATTACH TABLE IF NOT EXISTS " + ingestionView, filename);
+                    log.info("Resumed ingestion ({}) after migration {}", ingestionView, filename);
+                }
             }
 
             long elapsed = System.currentTimeMillis() - start;
@@ -127,6 +154,11 @@ public class ClickHouseMigrationRunner {
         return filename.substring(underscoreIdx + 2, filename.length() - 4);
     }
 
+    private String findIngestionView(String sql) {
+        Matcher matcher = PAUSE_INGESTION.matcher(sql);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
     private List<String> splitStatements(String sql) {
         return Arrays.stream(sql.split(";"))
                 .map(String::trim)
@@ -144,19 +176,21 @@ public class ClickHouseMigrationRunner {
 
     private void executeWithRetry(JdbcTemplate jdbc, String statement, String filename) {
         long backoff = INITIAL_BACKOFF_MS;
+        // 실패로 보인 INSERT 가 서버에서는 끝까지 실행될 수 있으므로 재시도하면 행이 중복된다
+        int maxAttempts = statement.regionMatches(true, 0, "INSERT", 0, 6) ? 1 : MAX_RETRIES;
 
-        for (int attempt = 1; attempt <= MAX_RETRIES; attempt++) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
             try {
                 jdbc.execute(statement);
                 return;
             } catch (Exception e) {
-                if (attempt == MAX_RETRIES) {
+                if (attempt == maxAttempts) {
                     log.error("Failed to execute statement in {} after {} attempts: {}",
-                            filename, MAX_RETRIES, e.getMessage());
+                            filename, maxAttempts, e.getMessage());
                     throw e;
                 }
                 log.warn("Attempt {}/{} failed for statement in {} — retrying in {} ms: {}",
-                        attempt, MAX_RETRIES, filename, backoff, e.getMessage());
+                        attempt, maxAttempts, filename, backoff, e.getMessage());
                 try {
                     Thread.sleep(backoff);
                 } catch (InterruptedException ie) {
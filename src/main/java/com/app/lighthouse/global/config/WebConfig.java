@@ -1,9 +1,18 @@
 package com.app.lighthouse.global.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.app.lighthouse.infra.clickhouse.QueryEndpointInterceptor;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     // CORS는 SecurityConfig에서 통합 관리
+
+    /** ClickHouse 조회 통계를 호출 엔드포인트별로 나누기 위한 컨텍스트 설정 */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryEndpointInterceptor()).addPathPatterns("/api/**");
+    }
 }
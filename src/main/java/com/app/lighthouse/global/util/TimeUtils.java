@@ -1,7 +1,9 @@
 package com.app.lighthouse.global.util;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
 public final class TimeUtils {
@@ -32,4 +34,33 @@ public final class TimeUtils {
     public static LocalDateTime nowKst() {
         return ZonedDateTime.now(KST).toLocalDateTime();
     }
+
+    /** "5 MINUTE", "1 HOUR" 형식의 ClickHouse INTERVAL 문자열 → Duration */
+    public static Duration parseInterval(String interval) {
+        String[] parts = interval.trim().split("\\s+");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("허용되지 않는 interval 값입니다: " + interval);
+        }
+        long amount = Long.parseLong(parts[0]);
+        return switch (parts[1].toUpperCase()) {
+            case "SECOND" -> Duration.ofSeconds(amount);
+            case "MINUTE" -> Duration.ofMinutes(amount);
+            case "HOUR" -> Duration.ofHours(amount);
+            case "DAY" -> Duration.ofDays(amount);
+            default -> throw new IllegalArgumentException("허용되지 않는 interval 값입니다: " + interval);
+        };
+    }
+
+    /** UTC LocalDateTime 을 epoch 기준 step 경계로 내림 (toStartOfInterval(..., 'UTC') 와 동일한 정렬) */
+    public static LocalDateTime floorTo(LocalDateTime utc, Duration step) {
+        long epochSecond = utc.toEpochSecond(ZoneOffset.UTC);
+        long stepSeconds = step.getSeconds();
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochSecond, stepSeconds) * stepSeconds, 0, ZoneOffset.UTC);
+    }
+
+    /** UTC LocalDateTime 을 epoch 기준 step 경계로 올림 */
+    public static LocalDateTime ceilTo(LocalDateTime utc, Duration step) {
+        LocalDateTime floor = floorTo(utc, step);
+        return floor.isEqual(utc) ? floor : floor.plus(step);
+    }
 }
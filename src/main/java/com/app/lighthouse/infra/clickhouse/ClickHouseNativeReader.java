@@ -0,0 +1,145 @@
+package com.app.lighthouse.infra.clickhouse;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+import com.clickhouse.client.api.Client;
+import com.clickhouse.client.api.data_formats.ClickHouseBinaryFormatReader;
+import com.clickhouse.client.api.query.QueryResponse;
+import com.clickhouse.client.api.query.QuerySettings;
+import com.clickhouse.data.ClickHouseFormat;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ClickHouse client v2 기반 RowBinary 조회기 (clickhouse-jdbc 가 내부적으로 쓰는 클라이언트).
+ *
+ * <p>JDBC ResultSet/Timestamp 를 거치지 않고 RowBinaryWithNamesAndTypes 응답을 바로 읽어 매핑한다.
+ * {@code clickhouse.reader=native} 일 때만 생성되며, 그렇지 않으면 LogRepository 는 JdbcTemplate 경로를 사용한다.</p>
+ *
+ * <p>LogRepository 가 만든 {@code ?} 위치 파라미터 SQL 을 그대로 받아
+ * 서버 측 파라미터({@code {p0:Type}})로 바꿔 전송하므로 두 경로가 같은 SQL 을 공유한다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "clickhouse.reader", havingValue = "native")
+public class ClickHouseNativeReader implements DisposableBean {
+
+    private static final DateTimeFormatter DATETIME64_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private final Client client;
+    private final long timeoutMs;
+
+    public ClickHouseNativeReader(
+            @Value("${clickhouse.native.endpoint}") String endpoint,
+            @Value("${clickhouse.native.database:lighthouse}") String database,
+            @Value("${clickhouse.datasource.hikari.username}") String username,
+            @Value("${clickhouse.datasource.hikari.password}") String password,
+            @Value("${clickhouse.datasource.hikari.maximum-pool-size:10}") int maxConnections,
+            @Value("${clickhouse.query-executor.timeout-ms:30000}") long timeoutMs) {
+        this.client = new Client.Builder()
+                .addEndpoint(endpoint)
+                .setUsername(username)
+                .setPassword(password)
+                .setDefaultDatabase(database)
+                .setMaxConnections(maxConnections)
+                .build();
+        this.timeoutMs = timeoutMs;
+        log.info("ClickHouse native reader initialized: endpoint={}", endpoint);
+    }
+
+    /**
+     * @param sql    {@code ?} 위치 파라미터를 사용하는 SQL (JdbcTemplate 과 동일한 형태)
+     * @param params 위치 파라미터 값 (String, Integer, Long, LocalDateTime)
+     */
+    public <T> List<T> query(String sql, List<Object> params, RowMapper<T> mapper) {
+        Map<String, Object> named = new HashMap<>();
+        String bound = bindParameters(sql, params, named);
+        QuerySettings settings = new QuerySettings().setFormat(ClickHouseFormat.RowBinaryWithNamesAndTypes);
+
+        try (QueryResponse response = client.query(bound, named, settings).get(timeoutMs, TimeUnit.MILLISECONDS)) {
+            ClickHouseBinaryFormatReader reader = client.newBinaryFormatReader(response);
+            List<T> rows = new ArrayList<>();
+            while (reader.hasNext()) {
+                reader.next();
+                rows.add(mapper.map(reader));
+            }
+            return rows;
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("ClickHouse 조회가 " + timeoutMs + "ms 내에 완료되지 않았습니다.", e);
+        } catch (ExecutionException e) {
+            throw new DataRetrievalFailureException("ClickHouse 조회 중 오류가 발생했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataRetrievalFailureException("ClickHouse 조회가 중단되었습니다.", e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DataRetrievalFailureException("ClickHouse 응답 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        client.close();
+    }
+
+    /** RowBinary 한 행 → 객체 */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ClickHouseBinaryFormatReader reader);
+    }
+
+    // ========== Private Helpers ==========
+
+    /** 작은따옴표 문자열 리터럴 밖의 ? 를 {pN:Type} 으로 치환한다. */
+    private String bindParameters(String sql, List<Object> params, Map<String, Object> named) {
+        StringBuilder out = new StringBuilder(sql.length() + params.size() * 16);
+        boolean inLiteral = false;
+        int index = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'' && (i == 0 || sql.charAt(i - 1) != '\\')) {
+                inLiteral = !inLiteral;
+            }
+            if (c != '?' || inLiteral) {
+                out.append(c);
+                continue;
+            }
+            if (index >= params.size()) {
+                throw new IllegalStateException("SQL 파라미터 수가 부족합니다: " + sql);
+            }
+            String name = "p" + index;
+            Object value = params.get(index++);
+            out.append('{').append(name).append(':').append(typeOf(value)).append('}');
+            named.put(name, value instanceof LocalDateTime time ? DATETIME64_FORMAT.format(time) : value);
+        }
+        if (index != params.size()) {
+            throw new IllegalStateException("SQL 파라미터 수가 일치하지 않습니다: " + sql);
+        }
+        return out.toString();
+    }
+
+    private String typeOf(Object value) {
+        if (value instanceof String) return "String";
+        if (value instanceof Integer) return "Int32";
+        if (value instanceof Long) return "Int64";
+        if (value instanceof LocalDateTime) return "DateTime64(3)";
+        throw new IllegalArgumentException("지원하지 않는 파라미터 타입입니다: "
+                + (value == null ? "null" : value.getClass().getSimpleName()));
+    }
+}
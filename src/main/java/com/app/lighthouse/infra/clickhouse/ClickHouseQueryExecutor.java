@@ -0,0 +1,175 @@
+package com.app.lighthouse.infra.clickhouse;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서로 독립적인 ClickHouse 조회를 병렬로 실행하는 bounded executor.
+ *
+ * <p>스레드 수는 clickhouse-pool(Hikari) 최대 커넥션 수를 기본값으로 하여
+ * 동시에 커넥션을 점유하는 작업 수가 풀 크기를 넘지 않도록 한다.
+ * 큐가 가득 차면 호출 스레드에서 직접 실행(CallerRuns)하여 순차 실행으로 degrade 된다.
+ * 호출 스레드의 엔드포인트({@link QueryContext})는 작업 스레드로 전달된다.</p>
+ *
+ * <p>요청 수명과 분리된 {@link #submit} 작업은 별도의 작은 executor 에서 실행한다.
+ * 이 executor 는 큐가 가득 차면 호출 스레드에서 실행하지 않고 거절하므로, 부하 시에도 요청 스레드가 막히지 않는다.</p>
+ *
+ * <pre>
+ * try (var fanOut = queryExecutor.fanOut()) {
+ *     var logs = fanOut.fork(() -> logRepository.searchLogs(request));
+ *     var count = fanOut.fork(() -> logRepository.countLogs(request));
+ *     return build(fanOut.join(logs), fanOut.join(count));
+ * }
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ClickHouseQueryExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor backgroundExecutor;
+    private final long timeoutMs;
+
+    public ClickHouseQueryExecutor(
+            @Value("${clickhouse.query-executor.pool-size:${clickhouse.datasource.hikari.maximum-pool-size:10}}") int poolSize,
+            @Value("${clickhouse.query-executor.queue-capacity:100}") int queueCapacity,
+            @Value("${clickhouse.query-executor.background-pool-size:2}") int backgroundPoolSize,
+            @Value("${clickhouse.query-executor.background-queue-capacity:20}") int backgroundQueueCapacity,
+            @Value("${clickhouse.query-executor.timeout-ms:30000}") long timeoutMs) {
+        this.executor = newExecutor("ch-query-", poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.backgroundExecutor = newExecutor("ch-background-", backgroundPoolSize, backgroundQueueCapacity,
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMs = timeoutMs;
+        log.info("ClickHouse query executor initialized: poolSize={}, queueCapacity={}, " +
+                        "backgroundPoolSize={}, backgroundQueueCapacity={}, timeoutMs={}",
+                poolSize, queueCapacity, backgroundPoolSize, backgroundQueueCapacity, timeoutMs);
+    }
+
+    public FanOut fanOut() {
+        return new FanOut();
+    }
+
+    /**
+     * 요청 수명과 분리된 백그라운드 조회. timeout-ms 가 지나면 QueryTimeoutException 으로 완료되고 작업은 취소된다.
+     *
+     * @throws RejectedExecutionException 백그라운드 executor 의 큐가 가득 찬 경우 (호출 스레드에서 대신 실행하지 않는다)
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> query) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Callable<T> task = QueryContext.wrap(query);
+        Future<?> future = backgroundExecutor.submit(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).whenComplete((value, error) -> {
+            if (error instanceof TimeoutException) {
+                future.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        backgroundExecutor.shutdownNow();
+    }
+
+    private static ThreadPoolExecutor newExecutor(String threadPrefix, int poolSize, int queueCapacity,
+                                                  RejectedExecutionHandler rejectionHandler) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadPrefix + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                rejectionHandler);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * 한 요청 안에서 fork 한 조회들의 수명을 묶는 scope.
+     * 하나라도 실패/타임아웃 되거나 scope 를 벗어나면 아직 끝나지 않은 조회는 모두 취소(interrupt)된다.
+     */
+    public final class FanOut implements AutoCloseable {
+
+        private final Map<Future<?>, Long> deadlines = new IdentityHashMap<>();
+
+        private FanOut() {}
+
+        public <T> Future<T> fork(Callable<T> query) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            Future<T> future = executor.submit(QueryContext.wrap(query));
+            deadlines.put(future, deadline);
+            return future;
+        }
+
+        public <T> T join(Future<T> future) {
+            Long deadline = deadlines.get(future);
+            if (deadline == null) {
+                throw new IllegalStateException("이 scope 에서 fork 되지 않은 작업입니다.");
+            }
+
+            try {
+                long remaining = Math.max(deadline - System.nanoTime(), 0L);
+                return future.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                cancelPending();
+                throw new QueryTimeoutException("ClickHouse 조회가 " + timeoutMs + "ms 내에 완료되지 않았습니다.", e);
+            } catch (ExecutionException e) {
+                cancelPending();
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException re) {
+                    throw re;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new DataRetrievalFailureException("ClickHouse 조회 중 오류가 발생했습니다.", cause);
+            } catch (InterruptedException e) {
+                cancelPending();
+                Thread.currentThread().interrupt();
+                throw new DataRetrievalFailureException("ClickHouse 조회가 중단되었습니다.", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelPending();
+        }
+
+        private void cancelPending() {
+            for (Future<?> future : deadlines.keySet()) {
+                if (!future.isDone()) {
+                    future.cancel(true);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.app.lighthouse.infra.clickhouse;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link InstrumentedQueries} bean 을 프록시로 감싸 public 메서드 호출마다
+ * 실행 시간과 반환 행 수를 {@link ClickHouseQueryStats} 에 기록한다.
+ *
+ * <p>호출 동안 {@link QueryContext} 에 메서드 이름을 두므로 그 안에서 만든 SQL 의 log_comment 에 메서드가 남는다.
+ * 같은 bean 안의 내부 호출(private helper, overload 위임)은 프록시를 거치지 않아 바깥 메서드로 집계된다.</p>
+ */
+@Component
+public class ClickHouseQueryInstrumentation implements BeanPostProcessor {
+
+    /** BeanPostProcessor 는 먼저 생성되므로 stats(MeterRegistry 의존)는 첫 호출 시점에 꺼낸다. */
+    private final ObjectProvider<ClickHouseQueryStats> stats;
+
+    public ClickHouseQueryInstrumentation(ObjectProvider<ClickHouseQueryStats> stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!AopUtils.getTargetClass(bean).isAnnotationPresent(InstrumentedQueries.class)) {
+            return bean;
+        }
+        MethodInterceptor interceptor = this::invoke;
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory factory = new ProxyFactory(bean);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(interceptor);
+        return factory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    private Object invoke(MethodInvocation invocation) throws Throwable {
+        // Object 메서드나, 다른 계측 대상 메서드 안에서 호출된 경우는 바깥 메서드로 집계
+        if (invocation.getMethod().getDeclaringClass() == Object.class || QueryContext.method() != null) {
+            return invocation.proceed();
+        }
+
+        String method = invocation.getMethod().getName();
+        QueryContext.setMethod(method);
+        long start = System.nanoTime();
+        boolean success = false;
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            success = true;
+            return result;
+        } finally {
+            QueryContext.setMethod(null);
+            stats.getObject().recordCall(method, QueryContext.endpoint(), System.nanoTime() - start,
+                    rowCount(result), success);
+        }
+    }
+
+    private Long rowCount(Object result) {
+        if (result instanceof Collection<?> rows) {
+            return (long) rows.size();
+        }
+        if (result instanceof Optional<?> row) {
+            return row.isPresent() ? 1L : 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,99 @@
+package com.app.lighthouse.infra.clickhouse;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.app.lighthouse.global.util.TimeUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이 인스턴스가 log_comment 를 남긴 쿼리를 system.query_log 에서 주기적으로 읽어
+ * read_rows / read_bytes / memory_usage 를 {@link ClickHouseQueryStats} 에 기록한다.
+ *
+ * <p>query_log 는 서버가 주기적으로(기본 7.5초) flush 하므로 수집은 실제 실행보다 늦게 반영된다.
+ * (event_time_microseconds, query_id) 로 keyset 페이징하므로 배치 경계에서 같은 마이크로초에 끝난 쿼리도 빠지지 않는다.
+ * 시각은 서버 시간대와 무관한 epoch 마이크로초(toUnixTimestamp64Micro)로 읽어 UTC 로 해석한다.
+ * query_log 조회 권한이 없으면 경고만 남기고 클라이언트 측 통계만 유지한다.</p>
+ */
+@Slf4j
+@Component
+public class ClickHouseQueryLogCollector {
+
+    private static final String COLUMNS = "SELECT query_id, log_comment," +
+            " toUnixTimestamp64Micro(event_time_microseconds) AS finished_at_us," +
+            " query_duration_ms, read_rows, read_bytes, memory_usage," +
+            " type = 'ExceptionWhileProcessing' AS failed" +
+            " FROM system.query_log" +
+            " WHERE type IN ('QueryFinish', 'ExceptionWhileProcessing')" +
+            " AND event_date >= yesterday() AND startsWith(log_comment, ?)";
+
+    private final JdbcTemplate jdbc;
+    private final ClickHouseQueryStats stats;
+    private final int batchSize;
+
+    /** 마지막으로 읽은 항목의 epoch 마이크로초와 query_id. watermarkQueryId 가 null 이면 최근 lookback 부터 */
+    private long watermarkMicros;
+    private String watermarkQueryId;
+
+    public ClickHouseQueryLogCollector(@Qualifier("clickHouseJdbcTemplate") JdbcTemplate jdbc,
+                                       ClickHouseQueryStats stats,
+                                       @Value("${clickhouse.query-stats.batch-size:5000}") int batchSize) {
+        this.jdbc = jdbc;
+        this.stats = stats;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${clickhouse.query-stats.collect-interval-ms:30000}", initialDelay = 30000)
+    public void collect() {
+        List<Object> params = new ArrayList<>();
+        params.add(QueryContext.COMMENT_PREFIX);
+        String sql = COLUMNS + (watermarkQueryId != null
+                ? " AND (event_time_microseconds, query_id) > (fromUnixTimestamp64Micro(toInt64(?)), ?)"
+                : " AND event_time_microseconds > now64(6) - INTERVAL 5 MINUTE");
+        if (watermarkQueryId != null) {
+            params.add(watermarkMicros);
+            params.add(watermarkQueryId);
+        }
+        sql += " ORDER BY event_time_microseconds, query_id LIMIT ?";
+        params.add(batchSize);
+
+        try {
+            jdbc.query(sql, rs -> {
+                String queryId = rs.getString("query_id");
+                long finishedAtMicros = rs.getLong("finished_at_us");
+                String[] comment = rs.getString("log_comment").split("\\|", 4);
+                if (comment.length == 4) {
+                    stats.recordServer(new ClickHouseQueryStats.QueryLogEntry(
+                            queryId,
+                            comment[2],
+                            comment[3],
+                            TimeUtils.toKst(fromEpochMicros(finishedAtMicros)),
+                            rs.getLong("query_duration_ms"),
+                            rs.getLong("read_rows"),
+                            rs.getLong("read_bytes"),
+                            rs.getLong("memory_usage"),
+                            rs.getBoolean("failed")
+                    ));
+                }
+                watermarkMicros = finishedAtMicros;
+                watermarkQueryId = queryId;
+            }, params.toArray());
+        } catch (Exception e) {
+            log.warn("system.query_log 수집 실패: {}", e.getMessage());
+        }
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000), (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,170 @@
+package com.app.lighthouse.infra.clickhouse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * (repository 메서드, 엔드포인트) 별 ClickHouse 조회 통계.
+ *
+ * <p>클라이언트 측(호출 수, 실행 시간, 반환 행 수)은 {@link ClickHouseQueryInstrumentation} 이 호출마다,
+ * 서버 측(read_rows, read_bytes, memory_usage)은 {@link ClickHouseQueryLogCollector} 가
+ * system.query_log 에서 읽어 기록한다. 두 값은 같은 키로 Micrometer 메트릭과 메모리 집계에 함께 쌓인다.</p>
+ *
+ * <ul>
+ *   <li>{@code lighthouse.clickhouse.query} — 메서드 실행 시간 (method, endpoint, outcome)</li>
+ *   <li>{@code lighthouse.clickhouse.query.rows} — 반환 행 수 (List/Optional 반환 메서드만)</li>
+ *   <li>{@code lighthouse.clickhouse.query.read.rows} / {@code .read.bytes} / {@code .memory} — 쿼리 단위 서버 측 값</li>
+ * </ul>
+ */
+@Component
+public class ClickHouseQueryStats {
+
+    private final MeterRegistry registry;
+    private final int recentSize;
+
+    private final Map<Key, Aggregate> aggregates = new ConcurrentHashMap<>();
+    private final Deque<QueryLogEntry> recent = new ArrayDeque<>();
+
+    public ClickHouseQueryStats(MeterRegistry registry,
+                                @Value("${clickhouse.query-stats.recent-size:100}") int recentSize) {
+        this.registry = registry;
+        this.recentSize = recentSize;
+    }
+
+    /**
+     * @param rows 반환 행 수. 행 목록이 아닌 값을 반환한 경우 null
+     */
+    public void recordCall(String method, String endpoint, long elapsedNanos, Long rows, boolean success) {
+        Timer.builder("lighthouse.clickhouse.query")
+                .tag("method", method).tag("endpoint", endpoint).tag("outcome", success ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (rows != null) {
+            DistributionSummary.builder("lighthouse.clickhouse.query.rows")
+                    .tag("method", method).tag("endpoint", endpoint)
+                    .register(registry)
+                    .record(rows);
+        }
+        aggregate(method, endpoint).addCall(elapsedNanos, rows, success);
+    }
+
+    public void recordServer(QueryLogEntry entry) {
+        summary("lighthouse.clickhouse.query.read.rows", null, entry).record(entry.readRows());
+        summary("lighthouse.clickhouse.query.read.bytes", "bytes", entry).record(entry.readBytes());
+        summary("lighthouse.clickhouse.query.memory", "bytes", entry).record(entry.memoryUsage());
+        aggregate(entry.method(), entry.endpoint()).addServer(entry);
+
+        synchronized (recent) {
+            recent.addFirst(entry);
+            while (recent.size() > recentSize) {
+                recent.removeLast();
+            }
+        }
+    }
+
+    public List<MethodStats> snapshot() {
+        List<MethodStats> result = new ArrayList<>(aggregates.size());
+        aggregates.forEach((key, aggregate) -> result.add(aggregate.snapshot(key)));
+        return result;
+    }
+
+    /** 최근 수집한 서버 측 쿼리 기록 (최신순) */
+    public List<QueryLogEntry> recent() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+
+    private DistributionSummary summary(String name, String baseUnit, QueryLogEntry entry) {
+        return DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .tag("method", entry.method()).tag("endpoint", entry.endpoint())
+                .register(registry);
+    }
+
+    private Aggregate aggregate(String method, String endpoint) {
+        return aggregates.computeIfAbsent(new Key(method, endpoint), k -> new Aggregate());
+    }
+
+    private record Key(String method, String endpoint) {}
+
+    /** system.query_log 의 쿼리 1건 */
+    public record QueryLogEntry(
+            String queryId,
+            String method,
+            String endpoint,
+            LocalDateTime finishedAt,
+            long durationMs,
+            long readRows,
+            long readBytes,
+            long memoryUsage,
+            boolean failed
+    ) {
+    }
+
+    public record MethodStats(
+            String method,
+            String endpoint,
+            long calls,
+            long errors,
+            long totalNanos,
+            long maxNanos,
+            long returnedRows,
+            long serverQueries,
+            long readRows,
+            long readBytes,
+            long maxMemoryUsage
+    ) {
+    }
+
+    private static final class Aggregate {
+
+        private long calls;
+        private long errors;
+        private long totalNanos;
+        private long maxNanos;
+        private long returnedRows;
+        private long serverQueries;
+        private long readRows;
+        private long readBytes;
+        private long maxMemoryUsage;
+
+        synchronized void addCall(long elapsedNanos, Long rows, boolean success) {
+            calls++;
+            if (!success) {
+                errors++;
+            }
+            totalNanos += elapsedNanos;
+            maxNanos = Math.max(maxNanos, elapsedNanos);
+            if (rows != null) {
+                returnedRows += rows;
+            }
+        }
+
+        synchronized void addServer(QueryLogEntry entry) {
+            serverQueries++;
+            readRows += entry.readRows();
+            readBytes += entry.readBytes();
+            maxMemoryUsage = Math.max(maxMemoryUsage, entry.memoryUsage());
+        }
+
+        synchronized MethodStats snapshot(Key key) {
+            return new MethodStats(key.method(), key.endpoint(), calls, errors, totalNanos, maxNanos,
+                    returnedRows, serverQueries, readRows, readBytes, maxMemoryUsage);
+        }
+    }
+}
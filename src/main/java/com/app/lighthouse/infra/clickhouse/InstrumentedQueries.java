@@ -0,0 +1,19 @@
+package com.app.lighthouse.infra.clickhouse;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * public 메서드 호출마다 실행 시간/반환 행 수를 기록하고,
+ * 메서드 안에서 실행되는 ClickHouse 조회의 log_comment 에 메서드 이름을 남기는 대상 bean.
+ *
+ * @see ClickHouseQueryInstrumentation
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface InstrumentedQueries {
+}
@@ -0,0 +1,88 @@
+package com.app.lighthouse.infra.clickhouse;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * ClickHouse 조회를 호출한 엔드포인트와 repository 메서드를 스레드별로 보관한다.
+ *
+ * <p>엔드포인트는 {@link QueryEndpointInterceptor} 가, 메서드는 {@link ClickHouseQueryInstrumentation} 이 설정한다.
+ * {@link ClickHouseQueryExecutor} 의 작업 스레드로는 {@link #wrap(Callable)} 으로 엔드포인트를 넘긴다.
+ * 조회 SQL 끝에 {@link #settingsClause()} 를 붙이면 system.query_log 의 log_comment 로
+ * (인스턴스, 메서드, 엔드포인트)를 남겨 {@link ClickHouseQueryLogCollector} 가 서버 측 통계와 연결한다.</p>
+ */
+public final class QueryContext {
+
+    /** 요청 밖(스케줄러, 기동 시 작업 등)에서 실행된 조회의 엔드포인트 값 */
+    public static final String BACKGROUND = "background";
+    static final String UNKNOWN_METHOD = "unknown";
+
+    /** 이 인스턴스가 남긴 log_comment 만 수집하기 위한 식별자 */
+    static final String INSTANCE_ID = UUID.randomUUID().toString().substring(0, 8);
+    static final String COMMENT_PREFIX = "lighthouse|" + INSTANCE_ID + "|";
+
+    private static final ThreadLocal<String> ENDPOINT = new ThreadLocal<>();
+    private static final ThreadLocal<String> METHOD = new ThreadLocal<>();
+
+    private QueryContext() {}
+
+    public static String endpoint() {
+        String endpoint = ENDPOINT.get();
+        return endpoint != null ? endpoint : BACKGROUND;
+    }
+
+    static void setEndpoint(String endpoint) {
+        ENDPOINT.set(endpoint);
+    }
+
+    static void clearEndpoint() {
+        ENDPOINT.remove();
+    }
+
+    static String method() {
+        return METHOD.get();
+    }
+
+    static void setMethod(String method) {
+        if (method == null) {
+            METHOD.remove();
+        } else {
+            METHOD.set(method);
+        }
+    }
+
+    /** 현재 스레드의 엔드포인트를 작업 스레드에서도 사용하도록 감싼다. */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        String endpoint = ENDPOINT.get();
+        if (endpoint == null) {
+            return task;
+        }
+        return () -> {
+            String previous = ENDPOINT.get();
+            ENDPOINT.set(endpoint);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    ENDPOINT.remove();
+                } else {
+                    ENDPOINT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * 조회 SQL 끝에 붙일 {@code SETTINGS log_comment = '...'} 절.
+     * 값은 SQL 문자열 리터럴 안에 들어가므로 따옴표, 역슬래시, 물음표(위치 파라미터), 구분자를 제거한다.
+     */
+    public static String settingsClause() {
+        String method = METHOD.get();
+        return " SETTINGS log_comment = '" + COMMENT_PREFIX
+                + sanitize(method != null ? method : UNKNOWN_METHOD) + "|" + sanitize(endpoint()) + "'";
+    }
+
+    private static String sanitize(String value) {
+        return value.replaceAll("[^A-Za-z0-9_./{}\\- ]", "_");
+    }
+}
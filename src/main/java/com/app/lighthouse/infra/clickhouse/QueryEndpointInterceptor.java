@@ -0,0 +1,29 @@
+package com.app.lighthouse.infra.clickhouse;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청을 처리하는 동안 "HTTP 메서드 + 매핑 패턴"(예: {@code GET /api/logs/{id}})을 {@link QueryContext} 에 둔다.
+ * 실제 URI 대신 패턴을 써서 메트릭 태그 카디널리티를 엔드포인트 수로 제한한다.
+ */
+public class QueryEndpointInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            QueryContext.setEndpoint(request.getMethod() + " " + pattern);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        QueryContext.clearEndpoint();
+    }
+}
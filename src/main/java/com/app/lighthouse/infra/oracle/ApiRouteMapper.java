@@ -0,0 +1,24 @@
+package com.app.lighthouse.infra.oracle;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ApiRouteMapper {
+
+    List<ApiRouteRecord> findAll();
+
+    List<ApiRouteRecord> findByAppId(@Param("appId") Long appId);
+
+    ApiRouteRecord findById(@Param("routeId") Long routeId);
+
+    ApiRouteRecord findByTemplate(@Param("appId") Long appId,
+                                  @Param("routeTemplate") String routeTemplate);
+
+    void insert(@Param("appId") Long appId,
+                @Param("routeTemplate") String routeTemplate);
+
+    void delete(@Param("routeId") Long routeId);
+}
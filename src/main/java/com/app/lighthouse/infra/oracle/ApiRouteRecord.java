@@ -0,0 +1,14 @@
+package com.app.lighthouse.infra.oracle;
+
+import java.time.LocalDateTime;
+
+/**
+ * Oracle lh_api_route 테이블 조회 결과 매핑용 레코드 (service_name 은 lh_application 조인).
+ */
+public record ApiRouteRecord(
+        Long routeId,
+        Long appId,
+        String serviceName,
+        String routeTemplate,
+        LocalDateTime createdAt
+) {}
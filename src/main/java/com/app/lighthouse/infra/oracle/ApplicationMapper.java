@@ -18,6 +18,13 @@ public interface ApplicationMapper {
                 @Param("displayName") String displayName,
                 @Param("description") String description);
 
+    /**
+     * 등록되지 않은 serviceName 만 한 번의 MERGE 로 등록한다 (display_name = service_name).
+     *
+     * @return 새로 등록된 행 수
+     */
+    int insertMissing(@Param("serviceNames") List<String> serviceNames);
+
     void update(@Param("appId") Long appId,
                 @Param("displayName") String displayName,
                 @Param("description") String description,
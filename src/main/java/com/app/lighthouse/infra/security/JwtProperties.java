@@ -13,4 +13,6 @@ public class JwtProperties {
     private String secret;
     private long accessTokenExpiration;
     private long refreshTokenExpiration;
+    /** 검증을 마친 토큰 캐시 크기 */
+    private int verifiedCacheMaxEntries = 10000;
 }
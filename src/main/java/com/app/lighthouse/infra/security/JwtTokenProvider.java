@@ -1,6 +1,12 @@
 package com.app.lighthouse.infra.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 
 import javax.crypto.SecretKey;
 
@@ -8,68 +14,97 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.app.lighthouse.global.cache.BoundedTtlCache;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
+
+    static final String TYPE_ACCESS = "ACCESS";
+    static final String TYPE_REFRESH = "REFRESH";
 
     private final SecretKey key;
+    private final JwtParser parser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
+    /**
+     * 검증을 마친 토큰. 원문 대신 SHA-256 값을 키로 쓰며, 토큰 만료 시각까지만 보관한다.
+     * 같은 토큰이 반복해서 오면 서명 검증 없이 해시 조회 한 번으로 끝난다.
+     */
+    private final BoundedTtlCache<String, VerifiedToken> verified;
+
     public JwtTokenProvider(JwtProperties properties) {
         this.key = Keys.hmacShaKeyFor(properties.getSecret().getBytes());
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.accessTokenExpiration = properties.getAccessTokenExpiration();
         this.refreshTokenExpiration = properties.getRefreshTokenExpiration();
+        this.verified = new BoundedTtlCache<>("jwt", properties.getVerifiedCacheMaxEntries());
     }
 
     public String generateAccessToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return buildToken(userDetails.getUsername(), accessTokenExpiration, "ACCESS");
+        return buildToken(userDetails.getUsername(), accessTokenExpiration, TYPE_ACCESS);
     }
 
     public String generateRefreshToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return buildToken(userDetails.getUsername(), refreshTokenExpiration, "REFRESH");
+        return buildToken(userDetails.getUsername(), refreshTokenExpiration, TYPE_REFRESH);
     }
 
     public String generateAccessTokenFromUsername(String username) {
-        return buildToken(username, accessTokenExpiration, "ACCESS");
+        return buildToken(username, accessTokenExpiration, TYPE_ACCESS);
     }
 
-    public String getUsernameFromToken(String token) {
-        return parseClaims(token).getSubject();
-    }
+    /**
+     * 서명과 만료를 한 번 검증하고 subject/type/만료 시각을 반환한다.
+     *
+     * @return 서명이 맞지 않거나 만료된 토큰이면 null
+     */
+    public VerifiedToken verify(String token) {
+        String cacheKey = sha256(token);
+        VerifiedToken cached = verified.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
 
-    public boolean validateToken(String token) {
+        VerifiedToken parsed;
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            parsed = new VerifiedToken(claims.getSubject(), claims.get("type", String.class),
+                    expiration != null ? expiration.toInstant() : null);
         } catch (ExpiredJwtException e) {
             log.warn("JWT token expired: {}", e.getMessage());
+            return null;
         } catch (JwtException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
+            return null;
         }
-        return false;
-    }
 
-    /**
-     * API 요청 인증에는 ACCESS 토큰만 허용.
-     * Refresh 토큰이 Authorization 헤더에 실려 오는 경우를 차단.
-     */
-    public boolean isAccessToken(String token) {
-        try {
-            String type = (String) parseClaims(token).get("type");
-            return "ACCESS".equals(type);
-        } catch (JwtException e) {
-            return false;
+        // exp 가 없는 토큰은 캐시하지 않는다
+        if (parsed.expiresAt() != null) {
+            Duration ttl = Duration.between(Instant.now(), parsed.expiresAt());
+            if (ttl.isPositive()) {
+                verified.put(cacheKey, parsed, ttl);
+            }
         }
+        return parsed;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        verified.bindTo(registry);
     }
 
     private String buildToken(String subject, long expirationMs, String type) {
@@ -83,11 +118,12 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
     }
 }
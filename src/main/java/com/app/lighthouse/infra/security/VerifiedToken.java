@@ -0,0 +1,22 @@
+package com.app.lighthouse.infra.security;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT 의 내용.
+ *
+ * @param subject   username
+ * @param type      ACCESS | REFRESH
+ * @param expiresAt 만료 시각
+ */
+public record VerifiedToken(
+        String subject,
+        String type,
+        Instant expiresAt
+) {
+
+    /** API 요청 인증에는 ACCESS 토큰만 허용 (Refresh 토큰이 Authorization 헤더에 실려 오는 경우를 차단) */
+    public boolean isAccessToken() {
+        return JwtTokenProvider.TYPE_ACCESS.equals(type);
+    }
+}
@@ -23,6 +23,11 @@ public class DashboardNotificationService {
         messagingTemplate.convertAndSend(TOPIC_DASHBOARD, summary);
     }
 
+    public void notifyDashboardUpdate(String destination, DashboardSummaryDto summary) {
+        log.debug("Broadcasting dashboard update to {}", destination);
+        messagingTemplate.convertAndSend(destination, summary);
+    }
+
     public void notifyAlert(Object alertPayload) {
         log.info("Broadcasting alert to {}", TOPIC_DASHBOARD_ALERTS);
         messagingTemplate.convertAndSend(TOPIC_DASHBOARD_ALERTS, alertPayload);
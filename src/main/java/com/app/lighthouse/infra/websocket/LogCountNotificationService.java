@@ -0,0 +1,25 @@
+package com.app.lighthouse.infra.websocket;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import com.app.lighthouse.domain.log.dto.LogCountDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogCountNotificationService {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private static final String TOPIC_LOG_COUNT_PREFIX = "/topic/logs/count/";
+
+    public void notifyCount(LogCountDto count) {
+        String destination = TOPIC_LOG_COUNT_PREFIX + count.getSearchId();
+        log.debug("Broadcasting deferred count to {}", destination);
+        messagingTemplate.convertAndSend(destination, count);
+    }
+}
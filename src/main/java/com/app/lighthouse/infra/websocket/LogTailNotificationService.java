@@ -0,0 +1,25 @@
+package com.app.lighthouse.infra.websocket;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import com.app.lighthouse.domain.log.dto.LogTailDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogTailNotificationService {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public static final String TOPIC_LOG_TAIL_PREFIX = "/topic/logs/tail/";
+
+    public void notifyNewLogs(String service, LogTailDto payload) {
+        String destination = TOPIC_LOG_TAIL_PREFIX + service;
+        log.debug("Broadcasting {} logs to {}", payload.getLogs().size(), destination);
+        messagingTemplate.convertAndSend(destination, payload);
+    }
+}
@@ -0,0 +1,117 @@
+package com.app.lighthouse.infra.websocket;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 구독 현황 레지스트리.
+ *
+ * <p>세션별 구독(subscriptionId → destination)을 추적해 destination 별 구독자 수를 유지한다.
+ * 서버 푸시 스케줄러는 이 목록으로 실제 구독자가 있는 destination 만 계산한다.
+ * version 은 destination 에 새 구독이 생길 때마다 증가하므로,
+ * 스케줄러가 변경분만 보내더라도 새 구독자에게는 다음 tick 에 현재 값을 보낼 수 있다.</p>
+ */
+@Slf4j
+@Component
+public class TopicSubscriptionRegistry {
+
+    private final Map<String, Map<String, String>> sessions = new HashMap<>();
+    private final Map<String, Topic> topics = new HashMap<>();
+    private long versionSequence;
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+
+        synchronized (this) {
+            String previous = sessions.computeIfAbsent(sessionId, k -> new HashMap<>())
+                    .put(subscriptionId, destination);
+            if (previous != null) {
+                release(previous);
+            }
+            topics.computeIfAbsent(destination, k -> new Topic()).subscribe(++versionSequence);
+        }
+        log.debug("STOMP subscribe: session={}, destination={}", sessionId, destination);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        synchronized (this) {
+            Map<String, String> subscriptions = sessions.get(sessionId);
+            if (subscriptions == null) {
+                return;
+            }
+            String destination = subscriptions.remove(subscriptionId);
+            if (destination != null) {
+                release(destination);
+            }
+            if (subscriptions.isEmpty()) {
+                sessions.remove(sessionId);
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        synchronized (this) {
+            Map<String, String> subscriptions = sessions.remove(event.getSessionId());
+            if (subscriptions != null) {
+                subscriptions.values().forEach(this::release);
+            }
+        }
+    }
+
+    /**
+     * prefix 로 시작하는 구독 중인 destination 목록.
+     *
+     * @return destination → 마지막 구독 version
+     */
+    public synchronized Map<String, Long> activeDestinations(String prefix) {
+        Map<String, Long> result = new HashMap<>();
+        topics.forEach((destination, topic) -> {
+            if (destination.startsWith(prefix)) {
+                result.put(destination, topic.version);
+            }
+        });
+        return result;
+    }
+
+    private void release(String destination) {
+        Topic topic = topics.get(destination);
+        if (topic != null && --topic.subscribers <= 0) {
+            topics.remove(destination);
+        }
+    }
+
+    private static final class Topic {
+        private int subscribers;
+        private long version;
+
+        void subscribe(long version) {
+            this.subscribers++;
+            this.version = version;
+        }
+    }
+}
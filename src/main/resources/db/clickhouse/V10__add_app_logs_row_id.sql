@@ -0,0 +1,14 @@
+-- ============================================================
+-- Lighthouse: 행 식별자 row_id
+-- 재시도/반복 에러처럼 (ingest_time, host, message) 가 모두 같은 행이 흔하므로
+-- keyset 커서의 동점 구분자, 상세 조회 rowKey, 로그 tail 커서는 적재 시 생성한 UUID 로 행을 구분한다
+-- Kafka MV(mv_app_logs)의 SELECT 에 없는 컬럼이므로 적재 시 DEFAULT 가 채운다
+-- ============================================================
+
+ALTER TABLE lighthouse.app_logs
+    ADD COLUMN IF NOT EXISTS row_id UUID DEFAULT generateUUIDv4()
+    AFTER raw_event;
+
+-- 기존 파트는 값이 없으면 읽을 때마다 DEFAULT 를 새로 계산하므로 커서/rowKey 가 가리키는 값이 바뀐다
+-- 값을 디스크에 고정할 때까지 기다린다 (row_id 한 컬럼만 쓰는 mutation 이며 재실행해도 결과가 유효하다)
+ALTER TABLE lighthouse.app_logs MATERIALIZE COLUMN row_id SETTINGS mutations_sync = 1;
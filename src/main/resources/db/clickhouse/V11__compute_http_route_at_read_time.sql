@@ -0,0 +1,168 @@
+-- ============================================================
+-- Lighthouse: http_route 를 적재 경로에서 딕셔너리와 분리
+-- V7 은 app_logs.http_route 를 dictGet 으로 적재 시점에 계산해
+--   1) 딕셔너리 로드가 실패하면 Kafka 적재(INSERT) 자체가 실패하고
+--   2) 템플릿을 바꿔도 이미 저장된 행과 rollup 의 라우트는 바뀌지 않았다
+-- 이제 저장하는 http_route 는 딕셔너리를 쓰지 않는 기본 규칙(숫자 / UUID / 16자 이상 hex 세그먼트 → {id})만 적용하고,
+-- 서비스별 템플릿은 조회 시점에 lighthouseHttpRoute(service, http_route) 로 적용한다
+-- 따라서 템플릿 추가/삭제는 재적재 없이 과거 구간에도 바로 반영된다
+--
+-- 기본 규칙(lighthouseGenericRoute)을 바꾸려면 새 migration 에서
+--   CREATE OR REPLACE FUNCTION 후 MATERIALIZE COLUMN http_route (mutations_sync = 1) 를 실행하고
+--   아래와 같이 rollup 을 app_logs 로 다시 채워야 저장된 값이 새 규칙을 따른다
+-- rollup 교체는 Kafka 적재를 멈춘 상태에서 수행하며, 모든 단계는 재실행해도 결과가 같다
+-- ============================================================
+-- @pause-ingestion lighthouse.mv_app_logs
+
+-- 적재 시점 규칙. 순수 문자열 함수만 사용하므로 외부 상태 때문에 실패하지 않는다
+CREATE OR REPLACE FUNCTION lighthouseGenericRoute AS (raw_path) ->
+    arrayStringConcat(
+        arrayMap(s -> if(match(s, '^([0-9]+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-fA-F]{16,})$'), '{id}', s),
+                 splitByChar('/', replaceRegexpOne(raw_path, '[\\x3F#].*$', ''))),
+        '/');
+
+ALTER TABLE lighthouse.app_logs
+    MODIFY COLUMN http_route String MATERIALIZED lighthouseGenericRoute(http_path);
+
+-- V7 이 템플릿으로 저장한 값을 기본 규칙 값으로 다시 쓴다. rollup 재구성이 이 값을 읽으므로 완료를 기다린다
+ALTER TABLE lighthouse.app_logs MATERIALIZE COLUMN http_route SETTINGS mutations_sync = 1;
+
+-- 조회 시점 규칙: (service, 저장된 http_route) → 템플릿 라우트. 맞는 템플릿이 없으면 저장된 값 그대로
+-- 템플릿 정규식의 변수 세그먼트([^/]+)는 {id} 로 바뀐 세그먼트에도 맞는다
+-- 딕셔너리에 없는 service 는 빈 목록(attribute DEFAULT)을 돌려받는다
+CREATE OR REPLACE FUNCTION lighthouseHttpRoute AS (svc, route) ->
+    if(arrayFirstIndex(p -> match(route, p), dictGet('lighthouse.dict_api_route_templates', 'patterns', tuple(svc))) > 0,
+       arrayElement(dictGet('lighthouse.dict_api_route_templates', 'routes', tuple(svc)),
+                    arrayFirstIndex(p -> match(route, p), dictGet('lighthouse.dict_api_route_templates', 'patterns', tuple(svc)))),
+       route);
+
+-- ============================================================
+-- rollup 재구성: 템플릿이 적용된 V7 의 http_route 를 기본 규칙 값으로 교체 (절차는 V7 과 같다)
+-- ============================================================
+
+DROP VIEW IF EXISTS lighthouse.mv_app_logs_1m;
+
+DROP VIEW IF EXISTS lighthouse.mv_app_logs_1h;
+
+CREATE TABLE IF NOT EXISTS lighthouse.app_logs_1m_rebuild
+(
+    bucket              DateTime,
+    service             String,
+    env                 String,
+    host                String,
+    level               LowCardinality(String),
+    http_method         LowCardinality(String),
+    http_route          String,
+
+    log_count           SimpleAggregateFunction(sum, UInt64),
+    error_5xx_count     SimpleAggregateFunction(sum, UInt64),
+    response_time_sum   SimpleAggregateFunction(sum, UInt64),
+    response_time_count SimpleAggregateFunction(sum, UInt64),
+    latency_digest      AggregateFunction(quantilesTDigest(0.5, 0.9, 0.95, 0.99), UInt32)
+)
+ENGINE = AggregatingMergeTree
+PARTITION BY toYYYYMMDD(bucket)
+ORDER BY (service, level, bucket, env, host, http_method, http_route);
+
+CREATE TABLE IF NOT EXISTS lighthouse.app_logs_1h_rebuild
+(
+    bucket              DateTime,
+    service             String,
+    env                 String,
+    host                String,
+    level               LowCardinality(String),
+    http_method         LowCardinality(String),
+    http_route          String,
+
+    log_count           SimpleAggregateFunction(sum, UInt64),
+    error_5xx_count     SimpleAggregateFunction(sum, UInt64),
+    response_time_sum   SimpleAggregateFunction(sum, UInt64),
+    response_time_count SimpleAggregateFunction(sum, UInt64),
+    latency_digest      AggregateFunction(quantilesTDigest(0.5, 0.9, 0.95, 0.99), UInt32)
+)
+ENGINE = AggregatingMergeTree
+PARTITION BY toYYYYMM(bucket)
+ORDER BY (service, level, bucket, env, host, http_method, http_route);
+
+TRUNCATE TABLE IF EXISTS lighthouse.app_logs_1m_rebuild;
+
+TRUNCATE TABLE IF EXISTS lighthouse.app_logs_1h_rebuild;
+
+INSERT INTO lighthouse.app_logs_1m_rebuild
+SELECT
+    toStartOfMinute(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_route,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantilesTDigestStateIf(0.5, 0.9, 0.95, 0.99)(response_time_ms, response_time_ms > 0) AS latency_digest
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_route;
+
+INSERT INTO lighthouse.app_logs_1h_rebuild
+SELECT
+    toStartOfHour(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_route,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantilesTDigestStateIf(0.5, 0.9, 0.95, 0.99)(response_time_ms, response_time_ms > 0) AS latency_digest
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_route;
+
+DROP TABLE IF EXISTS lighthouse.app_logs_1m;
+
+DROP TABLE IF EXISTS lighthouse.app_logs_1h;
+
+RENAME TABLE lighthouse.app_logs_1m_rebuild TO lighthouse.app_logs_1m,
+             lighthouse.app_logs_1h_rebuild TO lighthouse.app_logs_1h;
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS lighthouse.mv_app_logs_1m
+TO lighthouse.app_logs_1m
+AS
+SELECT
+    toStartOfMinute(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_route,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantilesTDigestStateIf(0.5, 0.9, 0.95, 0.99)(response_time_ms, response_time_ms > 0) AS latency_digest
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_route;
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS lighthouse.mv_app_logs_1h
+TO lighthouse.app_logs_1h
+AS
+SELECT
+    toStartOfHour(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_route,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantilesTDigestStateIf(0.5, 0.9, 0.95, 0.99)(response_time_ms, response_time_ms > 0) AS latency_digest
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_route;
@@ -0,0 +1,134 @@
+-- ============================================================
+-- Lighthouse: app_logs 분/시간 단위 사전 집계(rollup) 테이블
+-- 타임라인/에러 트렌드/API 상세 조회는 interval 이 grain 이상이면
+-- raw app_logs 대신 이 테이블을 읽는다 (LogRepository 라우팅 참고)
+-- Kafka 적재를 멈춘 상태에서 MV 생성과 backfill 을 수행하므로 두 경로가 같은 행을 중복 집계하지 않는다
+-- ============================================================
+-- @pause-ingestion lighthouse.mv_app_logs
+
+CREATE TABLE IF NOT EXISTS lighthouse.app_logs_1m
+(
+    bucket              DateTime,
+    service             String,
+    env                 String,
+    host                String,
+    level               LowCardinality(String),
+    http_method         LowCardinality(String),
+    http_path           String,
+
+    log_count           SimpleAggregateFunction(sum, UInt64),
+    error_5xx_count     SimpleAggregateFunction(sum, UInt64),
+    response_time_sum   SimpleAggregateFunction(sum, UInt64),
+    response_time_count SimpleAggregateFunction(sum, UInt64),
+    response_time_p95   AggregateFunction(quantile(0.95), UInt32)
+)
+ENGINE = AggregatingMergeTree
+PARTITION BY toYYYYMMDD(bucket)
+ORDER BY (service, level, bucket, env, host, http_method, http_path);
+
+CREATE TABLE IF NOT EXISTS lighthouse.app_logs_1h
+(
+    bucket              DateTime,
+    service             String,
+    env                 String,
+    host                String,
+    level               LowCardinality(String),
+    http_method         LowCardinality(String),
+    http_path           String,
+
+    log_count           SimpleAggregateFunction(sum, UInt64),
+    error_5xx_count     SimpleAggregateFunction(sum, UInt64),
+    response_time_sum   SimpleAggregateFunction(sum, UInt64),
+    response_time_count SimpleAggregateFunction(sum, UInt64),
+    response_time_p95   AggregateFunction(quantile(0.95), UInt32)
+)
+ENGINE = AggregatingMergeTree
+PARTITION BY toYYYYMM(bucket)
+ORDER BY (service, level, bucket, env, host, http_method, http_path);
+
+-- ============================================================
+-- Materialized View: app_logs -> rollup 자동 적재
+-- response_time_count / response_time_p95 는 응답시간이 기록된(> 0) 행만 대상
+-- ============================================================
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS lighthouse.mv_app_logs_1m
+TO lighthouse.app_logs_1m
+AS
+SELECT
+    toStartOfMinute(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_path,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantileStateIf(0.95)(response_time_ms, response_time_ms > 0) AS response_time_p95
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_path;
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS lighthouse.mv_app_logs_1h
+TO lighthouse.app_logs_1h
+AS
+SELECT
+    toStartOfHour(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_path,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantileStateIf(0.95)(response_time_ms, response_time_ms > 0) AS response_time_p95
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_path;
+
+-- ============================================================
+-- 기존 데이터 backfill
+-- 적재가 멈춰 있으므로 app_logs 전체가 backfill 대상이고, MV 는 적재 재개 후 유입분만 처리한다.
+-- 부분 실패 후 재실행되면 이전 실행이 남긴 집계(및 그 사이 MV 가 적재한 행)를 비우고 다시 채운다.
+-- ============================================================
+
+TRUNCATE TABLE IF EXISTS lighthouse.app_logs_1m;
+
+TRUNCATE TABLE IF EXISTS lighthouse.app_logs_1h;
+
+INSERT INTO lighthouse.app_logs_1m
+SELECT
+    toStartOfMinute(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_path,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantileStateIf(0.95)(response_time_ms, response_time_ms > 0) AS response_time_p95
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_path;
+
+INSERT INTO lighthouse.app_logs_1h
+SELECT
+    toStartOfHour(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_path,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantileStateIf(0.95)(response_time_ms, response_time_ms > 0) AS response_time_p95
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_path;
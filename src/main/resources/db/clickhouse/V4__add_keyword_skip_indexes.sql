@@ -0,0 +1,20 @@
+-- ============================================================
+-- Lighthouse: 키워드 검색용 ngram bloom filter skip index
+-- LogRepository 는 4자 이상 키워드를 multiSearchAny(lower(col), [kw]) 로 검색하며,
+-- 인덱스 식(lower(message), lower(raw_event))과 정확히 같아야 granule 을 건너뛸 수 있다
+-- lower() 와 positionCaseInsensitive 는 모두 ASCII 기준이라 검색 결과는 기존과 동일하다
+-- 벤치마크: docs/benchmarks/keyword-skip-index.md
+-- ============================================================
+
+ALTER TABLE lighthouse.app_logs
+    ADD INDEX IF NOT EXISTS idx_message_ngram lower(message)
+    TYPE ngrambf_v1(4, 131072, 3, 0) GRANULARITY 1;
+
+ALTER TABLE lighthouse.app_logs
+    ADD INDEX IF NOT EXISTS idx_raw_event_ngram lower(raw_event)
+    TYPE ngrambf_v1(4, 262144, 3, 0) GRANULARITY 1;
+
+-- 기존 파트에도 인덱스 생성 (백그라운드 mutation)
+ALTER TABLE lighthouse.app_logs MATERIALIZE INDEX idx_message_ngram;
+
+ALTER TABLE lighthouse.app_logs MATERIALIZE INDEX idx_raw_event_ngram;
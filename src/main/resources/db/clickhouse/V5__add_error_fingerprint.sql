@@ -0,0 +1,31 @@
+-- ============================================================
+-- Lighthouse: 에러 fingerprint (적재 시 계산되는 MATERIALIZED 컬럼)
+-- ERROR/FATAL 행만 계산하며 그 외 레벨은 0
+--   stack_trace 가 있으면: exception_class + 상위 5개 frame(클래스.메서드) 해시
+--     frame 은 "at x.y.Z.method(" 에서 추출하므로 파일명/라인 번호는 포함되지 않고,
+--     숫자(lambda$run$3, $Proxy12, CGLIB 접미사)와 $$Lambda 식별자는 제거한다
+--   stack_trace 가 없으면: exception_class + 숫자/hex ID 를 치환한 message 해시
+-- 그룹핑/트렌드 조회는 이 UInt64 로 GROUP BY / 필터링한다
+-- ============================================================
+
+ALTER TABLE lighthouse.app_logs
+    ADD COLUMN IF NOT EXISTS error_fingerprint UInt64 MATERIALIZED
+        if(level NOT IN ('ERROR', 'FATAL'),
+           toUInt64(0),
+           if(stack_trace != '',
+              cityHash64(exception_class,
+                  arrayStringConcat(
+                      arrayMap(f -> replaceRegexpAll(f, '\\$\\$Lambda[^.]*|[0-9]+', ''),
+                               arraySlice(extractAll(stack_trace, '\\bat ([A-Za-z0-9_$./<>]+)\\('), 1, 5)),
+                      '|')),
+              cityHash64(exception_class, replaceRegexpAll(message, '[0-9a-fA-F]{8,}|[0-9]+', '#'))))
+    AFTER stack_trace;
+
+ALTER TABLE lighthouse.app_logs
+    ADD INDEX IF NOT EXISTS idx_error_fingerprint error_fingerprint
+    TYPE bloom_filter(0.01) GRANULARITY 4;
+
+-- 기존 파트에도 값/인덱스 생성 (백그라운드 mutation)
+ALTER TABLE lighthouse.app_logs MATERIALIZE COLUMN error_fingerprint;
+
+ALTER TABLE lighthouse.app_logs MATERIALIZE INDEX idx_error_fingerprint;
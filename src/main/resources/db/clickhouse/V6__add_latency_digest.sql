@@ -0,0 +1,113 @@
+-- ============================================================
+-- Lighthouse: rollup 응답시간 분포 (병합 가능한 t-digest 상태)
+-- p50/p90/p95/p99 를 하나의 상태에서 계산하며, 분/시간 rollup 과 raw 보정 구간의
+-- 상태를 그대로 병합하므로 조회 구간/interval 과 무관하게 같은 분포를 사용한다
+-- 응답시간이 기록된(> 0) 행만 대상
+-- Kafka 적재를 멈춘 상태에서 rollup MV 를 digest 포함 정의로 교체하고 rollup 을 다시 채운다
+-- ============================================================
+-- @pause-ingestion lighthouse.mv_app_logs
+
+ALTER TABLE lighthouse.app_logs_1m
+    ADD COLUMN IF NOT EXISTS latency_digest AggregateFunction(quantilesTDigest(0.5, 0.9, 0.95, 0.99), UInt32);
+
+ALTER TABLE lighthouse.app_logs_1h
+    ADD COLUMN IF NOT EXISTS latency_digest AggregateFunction(quantilesTDigest(0.5, 0.9, 0.95, 0.99), UInt32);
+
+-- ============================================================
+-- Materialized View: app_logs -> rollup (V3 집계 + latency_digest)
+-- 적재가 멈춰 있으므로 MV 를 지우고 다시 만드는 사이에 누락되는 행이 없다
+-- ============================================================
+
+DROP VIEW IF EXISTS lighthouse.mv_app_logs_1m;
+
+DROP VIEW IF EXISTS lighthouse.mv_app_logs_1h;
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS lighthouse.mv_app_logs_1m
+TO lighthouse.app_logs_1m
+AS
+SELECT
+    toStartOfMinute(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_path,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantileStateIf(0.95)(response_time_ms, response_time_ms > 0) AS response_time_p95,
+    quantilesTDigestStateIf(0.5, 0.9, 0.95, 0.99)(response_time_ms, response_time_ms > 0) AS latency_digest
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_path;
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS lighthouse.mv_app_logs_1h
+TO lighthouse.app_logs_1h
+AS
+SELECT
+    toStartOfHour(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_path,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantileStateIf(0.95)(response_time_ms, response_time_ms > 0) AS response_time_p95,
+    quantilesTDigestStateIf(0.5, 0.9, 0.95, 0.99)(response_time_ms, response_time_ms > 0) AS latency_digest
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_path;
+
+-- ============================================================
+-- 기존 데이터 재적재
+-- 기존 행에 digest 만 더하면 재실행 시 상태가 중복 병합되므로, rollup 을 비우고 app_logs 전체로 다시 채운다
+-- (app_logs 에 TTL 이 없어 rollup 은 raw 로 완전히 재구성된다)
+-- ============================================================
+
+TRUNCATE TABLE IF EXISTS lighthouse.app_logs_1m;
+
+TRUNCATE TABLE IF EXISTS lighthouse.app_logs_1h;
+
+INSERT INTO lighthouse.app_logs_1m
+    (bucket, service, env, host, level, http_method, http_path,
+     log_count, error_5xx_count, response_time_sum, response_time_count, response_time_p95, latency_digest)
+SELECT
+    toStartOfMinute(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_path,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantileStateIf(0.95)(response_time_ms, response_time_ms > 0) AS response_time_p95,
+    quantilesTDigestStateIf(0.5, 0.9, 0.95, 0.99)(response_time_ms, response_time_ms > 0) AS latency_digest
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_path;
+
+INSERT INTO lighthouse.app_logs_1h
+    (bucket, service, env, host, level, http_method, http_path,
+     log_count, error_5xx_count, response_time_sum, response_time_count, response_time_p95, latency_digest)
+SELECT
+    toStartOfHour(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_path,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantileStateIf(0.95)(response_time_ms, response_time_ms > 0) AS response_time_p95,
+    quantilesTDigestStateIf(0.5, 0.9, 0.95, 0.99)(response_time_ms, response_time_ms > 0) AS latency_digest
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_path;
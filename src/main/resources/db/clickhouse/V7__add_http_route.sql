@@ -0,0 +1,195 @@
+-- ============================================================
+-- Lighthouse: HTTP 경로 템플릿(http_route)
+-- /users/123/orders/456 같은 경로를 /users/{id}/orders/{id} 로 묶어
+-- API 랭킹/상세 집계의 GROUP BY 카디널리티를 라우트 수로 제한한다
+--   1) 서비스별 템플릿 (Oracle lh_api_route → 애플리케이션이 api_route_templates 로 동기화)
+--   2) 템플릿에 없으면 숫자 / UUID / 16자 이상 hex 세그먼트를 {id} 로 치환
+-- query string(물음표 이후)과 fragment 는 제거한다
+-- rollup 교체는 Kafka 적재를 멈춘 상태에서 수행하며, 모든 단계는 재실행해도 결과가 같다
+-- ============================================================
+-- @pause-ingestion lighthouse.mv_app_logs
+
+-- 템플릿 동기화 대상 테이블. 동기화마다 새 version 으로 전체를 적재하고 이전 version 을 삭제한다
+CREATE TABLE IF NOT EXISTS lighthouse.api_route_templates
+(
+    version  UInt64,
+    service  String,
+    priority Int32,
+    pattern  String,
+    route    String
+)
+ENGINE = MergeTree
+ORDER BY (version, service, priority);
+
+-- service → (정규식 목록, 라우트 목록). 우선순위(구체적인 템플릿 먼저) 순서로 정렬
+CREATE DICTIONARY IF NOT EXISTS lighthouse.dict_api_route_templates
+(
+    service  String,
+    patterns Array(String) DEFAULT [],
+    routes   Array(String) DEFAULT []
+)
+PRIMARY KEY service
+SOURCE(CLICKHOUSE(QUERY 'SELECT service, arrayMap(t -> t.2, arraySort(groupArray((priority, pattern, route)))) AS patterns, arrayMap(t -> t.3, arraySort(groupArray((priority, pattern, route)))) AS routes FROM lighthouse.api_route_templates WHERE version = (SELECT max(version) FROM lighthouse.api_route_templates) GROUP BY service'))
+LAYOUT(COMPLEX_KEY_HASHED())
+LIFETIME(MIN 30 MAX 60);
+
+-- (service, http_path) → http_route. app_logs 컬럼과 rollup 재적재에서 같은 규칙을 쓰도록 함수로 둔다
+CREATE FUNCTION IF NOT EXISTS lighthouseHttpRoute AS (svc, raw_path) ->
+    if(raw_path = '',
+       '',
+       if(arrayFirstIndex(p -> match(replaceRegexpOne(raw_path, '[\\x3F#].*$', ''), p),
+                          dictGet('lighthouse.dict_api_route_templates', 'patterns', tuple(svc))) > 0,
+          arrayElement(dictGet('lighthouse.dict_api_route_templates', 'routes', tuple(svc)),
+                       arrayFirstIndex(p -> match(replaceRegexpOne(raw_path, '[\\x3F#].*$', ''), p),
+                                       dictGet('lighthouse.dict_api_route_templates', 'patterns', tuple(svc)))),
+          arrayStringConcat(
+              arrayMap(s -> if(match(s, '^([0-9]+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-fA-F]{16,})$'), '{id}', s),
+                       splitByChar('/', replaceRegexpOne(raw_path, '[\\x3F#].*$', ''))),
+              '/')));
+
+ALTER TABLE lighthouse.app_logs
+    ADD COLUMN IF NOT EXISTS http_route String MATERIALIZED lighthouseHttpRoute(service, http_path)
+    AFTER http_path;
+
+ALTER TABLE lighthouse.app_logs MATERIALIZE COLUMN http_route;
+
+-- ============================================================
+-- rollup 재구성: http_path 대신 http_route 를 키로 사용
+-- 사용하지 않는 response_time_p95 는 제외하고 latency_digest 를 기본 MV 에서 함께 적재한다
+--   1) 기존 rollup MV 제거 (적재가 멈춰 있어 누락되는 행이 없다)
+--   2) *_route 테이블을 비우고 app_logs 로 채운다. 채우는 동안 조회는 기존 rollup 을 읽는다
+--   3) 기존 rollup 을 지우고 *_route 를 그 이름으로 바꾼 뒤 MV 재생성
+-- 어느 단계에서 실패해도 재실행 시 2) 부터 다시 채우므로 결과가 같다 (app_logs 에 TTL 이 없어 raw 로 완전히 재구성된다)
+-- ============================================================
+
+DROP VIEW IF EXISTS lighthouse.mv_app_logs_1m;
+
+DROP VIEW IF EXISTS lighthouse.mv_app_logs_1m_latency;
+
+DROP VIEW IF EXISTS lighthouse.mv_app_logs_1h;
+
+DROP VIEW IF EXISTS lighthouse.mv_app_logs_1h_latency;
+
+CREATE TABLE IF NOT EXISTS lighthouse.app_logs_1m_route
+(
+    bucket              DateTime,
+    service             String,
+    env                 String,
+    host                String,
+    level               LowCardinality(String),
+    http_method         LowCardinality(String),
+    http_route          String,
+
+    log_count           SimpleAggregateFunction(sum, UInt64),
+    error_5xx_count     SimpleAggregateFunction(sum, UInt64),
+    response_time_sum   SimpleAggregateFunction(sum, UInt64),
+    response_time_count SimpleAggregateFunction(sum, UInt64),
+    latency_digest      AggregateFunction(quantilesTDigest(0.5, 0.9, 0.95, 0.99), UInt32)
+)
+ENGINE = AggregatingMergeTree
+PARTITION BY toYYYYMMDD(bucket)
+ORDER BY (service, level, bucket, env, host, http_method, http_route);
+
+CREATE TABLE IF NOT EXISTS lighthouse.app_logs_1h_route
+(
+    bucket              DateTime,
+    service             String,
+    env                 String,
+    host                String,
+    level               LowCardinality(String),
+    http_method         LowCardinality(String),
+    http_route          String,
+
+    log_count           SimpleAggregateFunction(sum, UInt64),
+    error_5xx_count     SimpleAggregateFunction(sum, UInt64),
+    response_time_sum   SimpleAggregateFunction(sum, UInt64),
+    response_time_count SimpleAggregateFunction(sum, UInt64),
+    latency_digest      AggregateFunction(quantilesTDigest(0.5, 0.9, 0.95, 0.99), UInt32)
+)
+ENGINE = AggregatingMergeTree
+PARTITION BY toYYYYMM(bucket)
+ORDER BY (service, level, bucket, env, host, http_method, http_route);
+
+TRUNCATE TABLE IF EXISTS lighthouse.app_logs_1m_route;
+
+TRUNCATE TABLE IF EXISTS lighthouse.app_logs_1h_route;
+
+-- 아직 MATERIALIZE 되지 않은 part 의 http_route 는 읽을 때 식으로 계산된다
+INSERT INTO lighthouse.app_logs_1m_route
+SELECT
+    toStartOfMinute(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_route,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantilesTDigestStateIf(0.5, 0.9, 0.95, 0.99)(response_time_ms, response_time_ms > 0) AS latency_digest
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_route;
+
+INSERT INTO lighthouse.app_logs_1h_route
+SELECT
+    toStartOfHour(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_route,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantilesTDigestStateIf(0.5, 0.9, 0.95, 0.99)(response_time_ms, response_time_ms > 0) AS latency_digest
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_route;
+
+DROP TABLE IF EXISTS lighthouse.app_logs_1m;
+
+DROP TABLE IF EXISTS lighthouse.app_logs_1h;
+
+RENAME TABLE lighthouse.app_logs_1m_route TO lighthouse.app_logs_1m,
+             lighthouse.app_logs_1h_route TO lighthouse.app_logs_1h;
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS lighthouse.mv_app_logs_1m
+TO lighthouse.app_logs_1m
+AS
+SELECT
+    toStartOfMinute(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_route,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantilesTDigestStateIf(0.5, 0.9, 0.95, 0.99)(response_time_ms, response_time_ms > 0) AS latency_digest
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_route;
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS lighthouse.mv_app_logs_1h
+TO lighthouse.app_logs_1h
+AS
+SELECT
+    toStartOfHour(ingest_time) AS bucket,
+    service,
+    env,
+    host,
+    level,
+    http_method,
+    http_route,
+    count() AS log_count,
+    countIf(http_status >= 500) AS error_5xx_count,
+    sum(response_time_ms) AS response_time_sum,
+    countIf(response_time_ms > 0) AS response_time_count,
+    quantilesTDigestStateIf(0.5, 0.9, 0.95, 0.99)(response_time_ms, response_time_ms > 0) AS latency_digest
+FROM lighthouse.app_logs
+GROUP BY bucket, service, env, host, level, http_method, http_route;
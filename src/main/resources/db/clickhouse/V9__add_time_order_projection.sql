@@ -0,0 +1,18 @@
+-- ============================================================
+-- Lighthouse: 시간 순 projection (ingest_time, service, host)
+-- app_logs 정렬 키는 (service, level, ingest_time, host) 라서 service/level 조건이 없는
+-- 시간 구간 조회는 파티션 안의 primary index 를 ingest_time 으로 좁히지 못한다
+-- 서버 현황/활성 서버 수/서비스 목록처럼 아래 컬럼만 읽는 조회는 optimizer 가 이 projection 을 선택하고,
+-- 필터 없는 로그 검색은 이 projection 으로 페이지 하한 시각을 먼저 구한 뒤 본 조회 범위를 좁힌다
+-- 측정 절차: docs/benchmarks/time-order-projection.md
+-- ============================================================
+
+ALTER TABLE lighthouse.app_logs
+    ADD PROJECTION IF NOT EXISTS p_time_order
+    (
+        SELECT ingest_time, service, host, env, level
+        ORDER BY (ingest_time, service, host)
+    );
+
+-- 기존 파트에도 projection 생성 (백그라운드 mutation)
+ALTER TABLE lighthouse.app_logs MATERIALIZE PROJECTION p_time_order;
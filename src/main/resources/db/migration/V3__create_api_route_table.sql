@@ -0,0 +1,13 @@
+-- ============================================================
+-- [V3] lh_api_route: 애플리케이션별 HTTP 경로 템플릿
+-- 예) /users/{userId}/orders/{orderId}
+-- ClickHouse api_route_templates 로 동기화되어 app_logs.http_route 계산에 사용
+-- ============================================================
+
+CREATE TABLE lh_api_route (
+    route_id       NUMBER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    app_id         NUMBER        NOT NULL REFERENCES lh_application (app_id) ON DELETE CASCADE,
+    route_template VARCHAR2(500) NOT NULL,
+    created_at     TIMESTAMP     DEFAULT SYSTIMESTAMP NOT NULL,
+    CONSTRAINT uq_api_route UNIQUE (app_id, route_template)
+);
@@ -0,0 +1,80 @@
+package com.app.lighthouse.domain.log.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class LogCursorTest {
+
+    private static final String ROW_ID = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        LogCursor cursor = new LogCursor(LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_000_000), "app-1", ROW_ID);
+
+        assertThat(LogCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void distinguishesRowsWithSameTimeAndHost() {
+        // 같은 시각·host·메시지의 중복 행도 row_id 가 달라 페이지 경계에서 서로 다른 커서가 된다
+        LocalDateTime time = LocalDateTime.of(2026, 3, 1, 0, 0, 0, 5_000_000);
+        LogCursor first = new LogCursor(time, "app-1", ROW_ID);
+        LogCursor second = new LogCursor(time, "app-1", "7c9e6679-7425-40de-944b-e07fc1f90ae7");
+
+        assertThat(first.encode()).isNotEqualTo(second.encode());
+        assertThat(LogCursor.decode(first.encode())).isEqualTo(first);
+        assertThat(LogCursor.decode(second.encode())).isEqualTo(second);
+    }
+
+    @Test
+    void normalizesRowIdCase() {
+        LogCursor cursor = new LogCursor(LocalDateTime.of(2026, 3, 1, 0, 0), "app-1", ROW_ID.toUpperCase());
+
+        assertThat(LogCursor.decode(cursor.encode()).rowId()).isEqualTo(ROW_ID);
+    }
+
+    @Test
+    void keepsSeparatorInHost() {
+        // host 는 마지막 필드라 구분자를 포함해도 잘리지 않는다
+        LogCursor cursor = new LogCursor(LocalDateTime.of(2026, 3, 1, 0, 0), "pod|a|b", ROW_ID);
+
+        assertThat(LogCursor.decode(cursor.encode()).host()).isEqualTo("pod|a|b");
+    }
+
+    @Test
+    void truncatesIngestTimeToMillis() {
+        LogCursor cursor = new LogCursor(LocalDateTime.of(2026, 3, 1, 0, 0, 0, 123_456_789), "app-1", ROW_ID);
+
+        assertThat(LogCursor.decode(cursor.encode()).ingestTime())
+                .isEqualTo(LocalDateTime.of(2026, 3, 1, 0, 0, 0, 123_000_000));
+    }
+
+    @Test
+    void decodesTimeBeforeEpoch() {
+        LogCursor cursor = new LogCursor(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 500_000_000), "app-1", ROW_ID);
+
+        assertThat(LogCursor.decode(cursor.encode()).ingestTime()).isEqualTo(cursor.ingestTime());
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        String missingFields = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("1700000000000".getBytes(StandardCharsets.UTF_8));
+        String hashInsteadOfRowId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("1700000000000|18446744073709551615|app-1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> LogCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 cursor 값입니다.");
+        assertThatThrownBy(() -> LogCursor.decode(missingFields))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LogCursor.decode(hashInsteadOfRowId))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
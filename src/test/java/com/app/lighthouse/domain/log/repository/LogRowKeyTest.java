@@ -0,0 +1,63 @@
+package com.app.lighthouse.domain.log.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class LogRowKeyTest {
+
+    private static final String ROW_ID = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        LogRowKey key = new LogRowKey("order-api", "ERROR",
+                LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_000_000), "app-1", ROW_ID);
+
+        assertThat(LogRowKey.decode(key.encode())).isEqualTo(key);
+    }
+
+    @Test
+    void distinguishesDuplicateRowsBySameSortKey() {
+        // 정렬 키와 메시지가 같은 중복 행도 row_id 로 서로 다른 key 가 된다
+        LocalDateTime time = LocalDateTime.of(2026, 3, 1, 0, 0);
+        LogRowKey first = new LogRowKey("order-api", "ERROR", time, "app-1", ROW_ID);
+        LogRowKey second = new LogRowKey("order-api", "ERROR", time, "app-1", "7c9e6679-7425-40de-944b-e07fc1f90ae7");
+
+        assertThat(first.encode()).isNotEqualTo(second.encode());
+        assertThat(LogRowKey.decode(second.encode())).isEqualTo(second);
+    }
+
+    @Test
+    void keepsPipeAndSpacesInFields() {
+        // host 는 마지막 필드이고 구분자는 줄바꿈이라 다른 문자는 그대로 보존된다
+        LogRowKey key = new LogRowKey("order api|v2", "WARN",
+                LocalDateTime.of(2026, 3, 1, 0, 0), "pod|a b", ROW_ID);
+
+        assertThat(LogRowKey.decode(key.encode())).isEqualTo(key);
+    }
+
+    @Test
+    void rejectsMalformedKey() {
+        String missingFields = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("1700000000000\n" + ROW_ID + "\nERROR").getBytes(StandardCharsets.UTF_8));
+        String badTime = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("now\n" + ROW_ID + "\nERROR\norder-api\napp-1").getBytes(StandardCharsets.UTF_8));
+        String hashInsteadOfRowId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("1700000000000\n42\nERROR\norder-api\napp-1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> LogRowKey.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 로그 key 값입니다.");
+        assertThatThrownBy(() -> LogRowKey.decode(missingFields))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LogRowKey.decode(badTime))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LogRowKey.decode(hashInsteadOfRowId))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
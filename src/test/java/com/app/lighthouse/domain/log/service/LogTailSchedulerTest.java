@@ -0,0 +1,150 @@
+package com.app.lighthouse.domain.log.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.app.lighthouse.domain.log.dto.LogEntryDto;
+import com.app.lighthouse.domain.log.dto.LogTailDto;
+import com.app.lighthouse.domain.log.repository.LogCursor;
+import com.app.lighthouse.domain.log.repository.LogRepository;
+import com.app.lighthouse.domain.log.repository.row.LogSearchRow;
+import com.app.lighthouse.global.util.TimeUtils;
+import com.app.lighthouse.infra.clickhouse.ClickHouseNativeReader;
+import com.app.lighthouse.infra.clickhouse.ClickHouseQueryExecutor;
+import com.app.lighthouse.infra.websocket.LogTailNotificationService;
+import com.app.lighthouse.infra.websocket.TopicSubscriptionRegistry;
+
+class LogTailSchedulerTest {
+
+    private static final String SERVICE = "order-api";
+
+    private StubLogRepository repository;
+    private RecordingNotificationService notifications;
+    private ClickHouseQueryExecutor queryExecutor;
+    private LogTailScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        repository = new StubLogRepository();
+        notifications = new RecordingNotificationService();
+        queryExecutor = new ClickHouseQueryExecutor(2, 8, 1, 1, 5_000);
+        scheduler = new LogTailScheduler(repository, queryExecutor, notifications, new SingleTopicRegistry(), 0, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queryExecutor.destroy();
+    }
+
+    @Test
+    void deliversEveryRowWhenBatchEdgeSplitsEqualKeys() {
+        scheduler.pollTails();
+        LocalDateTime start = repository.firstCursor.ingestTime();
+
+        // 배치 크기(2)보다 많은 행이 같은 (ingest_time, host) 를 공유
+        repository.add(start, "app-1", "00000000-0000-4000-8000-000000000005", "a");
+        repository.add(start, "app-1", "00000000-0000-4000-8000-000000000001", "b");
+        repository.add(start, "app-1", "00000000-0000-4000-8000-000000000003", "c");
+        repository.add(start, "app-1", "00000000-0000-4000-8000-000000000004", "d");
+        repository.add(start, "app-2", "00000000-0000-4000-8000-000000000002", "e");
+
+        for (int i = 0; i < 4; i++) {
+            scheduler.pollTails();
+        }
+
+        assertThat(notifications.messages()).containsExactly("b", "c", "d", "a", "e");
+    }
+
+    @Test
+    void resumesAfterLastSentRowWhenMoreRowsShareItsKey() {
+        scheduler.pollTails();
+        LocalDateTime start = repository.firstCursor.ingestTime();
+
+        repository.add(start, "app-1", "00000000-0000-4000-8000-000000000001", "a");
+        repository.add(start, "app-1", "00000000-0000-4000-8000-000000000002", "b");
+        scheduler.pollTails();
+        repository.add(start, "app-1", "00000000-0000-4000-8000-000000000003", "c");
+        scheduler.pollTails();
+        scheduler.pollTails();
+
+        assertThat(notifications.messages()).containsExactly("a", "b", "c");
+    }
+
+    private static int compare(LogCursor a, LogCursor b) {
+        return Comparator.comparing(LogCursor::ingestTime)
+                .thenComparing(LogCursor::host)
+                .thenComparing(LogCursor::rowId)
+                .compare(a, b);
+    }
+
+    /** getLogsAfter 의 범위 조건과 정렬을 메모리의 행에 그대로 적용한다. */
+    private static class StubLogRepository extends LogRepository {
+
+        private final List<LogSearchRow> rows = new CopyOnWriteArrayList<>();
+        volatile LogCursor firstCursor;
+
+        StubLogRepository() {
+            super(new JdbcTemplate(), new DefaultListableBeanFactory().getBeanProvider(ClickHouseNativeReader.class));
+        }
+
+        void add(LocalDateTime ingestTimeUtc, String host, String rowId, String message) {
+            LogEntryDto entry = LogEntryDto.builder()
+                    .ingestTime(TimeUtils.toKst(ingestTimeUtc))
+                    .host(host)
+                    .service(SERVICE)
+                    .message(message)
+                    .build();
+            rows.add(new LogSearchRow(entry, new LogCursor(ingestTimeUtc, host, rowId)));
+        }
+
+        @Override
+        public List<LogSearchRow> getLogsAfter(String service, LogCursor after, LocalDateTime until, int limit) {
+            if (firstCursor == null) {
+                firstCursor = after;
+            }
+            return rows.stream()
+                    .filter(r -> compare(r.cursor(), after) > 0 && !r.cursor().ingestTime().isAfter(until))
+                    .sorted((a, b) -> compare(a.cursor(), b.cursor()))
+                    .limit(limit)
+                    .toList();
+        }
+    }
+
+    private static class RecordingNotificationService extends LogTailNotificationService {
+
+        private final List<LogTailDto> payloads = new ArrayList<>();
+
+        RecordingNotificationService() {
+            super(null);
+        }
+
+        @Override
+        public void notifyNewLogs(String service, LogTailDto payload) {
+            payloads.add(payload);
+        }
+
+        List<String> messages() {
+            return payloads.stream().flatMap(p -> p.getLogs().stream()).map(LogEntryDto::getMessage).toList();
+        }
+    }
+
+    private static class SingleTopicRegistry extends TopicSubscriptionRegistry {
+
+        @Override
+        public synchronized Map<String, Long> activeDestinations(String prefix) {
+            return Map.of(LogTailNotificationService.TOPIC_LOG_TAIL_PREFIX + SERVICE, 1L);
+        }
+    }
+}
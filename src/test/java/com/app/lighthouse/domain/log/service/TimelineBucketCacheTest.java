@@ -0,0 +1,173 @@
+package com.app.lighthouse.domain.log.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.app.lighthouse.domain.log.repository.LogRepository;
+import com.app.lighthouse.domain.log.repository.row.TimelineRow;
+import com.app.lighthouse.global.util.TimeUtils;
+import com.app.lighthouse.infra.clickhouse.ClickHouseNativeReader;
+import com.app.lighthouse.infra.clickhouse.ClickHouseQueryExecutor;
+
+class TimelineBucketCacheTest {
+
+    private static final String INTERVAL = "1 MINUTE";
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private StubLogRepository repository;
+    private ClickHouseQueryExecutor queryExecutor;
+    private TimelineBucketCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = new StubLogRepository();
+        queryExecutor = new ClickHouseQueryExecutor(4, 16, 1, 1, 5_000);
+        cache = new TimelineBucketCache(repository, queryExecutor, 8, 30, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queryExecutor.destroy();
+    }
+
+    @Test
+    void splitsHeadClosedAndTail() {
+        List<TimelineRow> rows = cache.getLogTimeline(at(0, 30), at(10, 30), INTERVAL, "order-api", null);
+
+        assertThat(repository.calls).containsExactlyInAnyOrder(
+                range(at(0, 30), at(1, 0)),
+                range(at(1, 0), at(10, 0)),
+                range(at(10, 0), at(10, 30)));
+        assertThat(rows).isEqualTo(repository.expected(at(0, 30), at(10, 30)));
+    }
+
+    @Test
+    void readsOnlyUncachedClosedBuckets() {
+        cache.getLogTimeline(at(0, 30), at(10, 30), INTERVAL, "order-api", null);
+        repository.calls.clear();
+
+        List<TimelineRow> rows = cache.getLogTimeline(at(2, 30), at(12, 30), INTERVAL, "order-api", null);
+
+        // [00:03, 00:10) 은 캐시에서, [00:10, 00:12) 만 새로 조회
+        assertThat(repository.calls).containsExactlyInAnyOrder(
+                range(at(2, 30), at(3, 0)),
+                range(at(10, 0), at(12, 0)),
+                range(at(12, 0), at(12, 30)));
+        assertThat(rows).isEqualTo(repository.expected(at(2, 30), at(12, 30)));
+    }
+
+    @Test
+    void mergesGapBeforeCoveredRange() {
+        cache.getLogTimeline(at(5, 0), at(10, 0), INTERVAL, "order-api", null);
+        repository.calls.clear();
+
+        List<TimelineRow> rows = cache.getLogTimeline(at(2, 0), at(8, 0), INTERVAL, "order-api", null);
+
+        assertThat(repository.calls).containsExactly(range(at(2, 0), at(5, 0)));
+        assertThat(rows).isEqualTo(repository.expected(at(2, 0), at(8, 0)));
+
+        repository.calls.clear();
+        assertThat(cache.getLogTimeline(at(2, 0), at(10, 0), INTERVAL, "order-api", null))
+                .isEqualTo(repository.expected(at(2, 0), at(10, 0)));
+        assertThat(repository.calls).isEmpty();
+    }
+
+    @Test
+    void replacesCoverageWhenRangesAreDisjoint() {
+        cache.getLogTimeline(at(0, 0), at(5, 0), INTERVAL, "order-api", null);
+        cache.getLogTimeline(at(20, 0), at(25, 0), INTERVAL, "order-api", null);
+        repository.calls.clear();
+
+        cache.getLogTimeline(at(0, 0), at(5, 0), INTERVAL, "order-api", null);
+
+        assertThat(repository.calls).containsExactly(range(at(0, 0), at(5, 0)));
+    }
+
+    @Test
+    void keepsSeriesSeparatePerFilter() {
+        cache.getLogTimeline(at(0, 0), at(5, 0), INTERVAL, "order-api", null);
+        repository.calls.clear();
+
+        cache.getLogTimeline(at(0, 0), at(5, 0), INTERVAL, "payment-api", null);
+
+        assertThat(repository.calls).containsExactly(range(at(0, 0), at(5, 0)));
+    }
+
+    @Test
+    void bypassesCacheWhenRangeExceedsBucketLimit() {
+        cache.getLogTimeline(at(0, 0), at(40, 0), INTERVAL, "order-api", null);
+        cache.getLogTimeline(at(0, 0), at(40, 0), INTERVAL, "order-api", null);
+
+        assertThat(repository.calls).containsExactly(
+                range(at(0, 0), at(40, 0)),
+                range(at(0, 0), at(40, 0)));
+    }
+
+    @Test
+    void splitsSixHourBucketsOnUtcBoundaries() {
+        // 01:30 ~ 다음날 03:00 (UTC) → 머리 [01:30, 06:00), 닫힌 [06:00, 다음날 00:00), 꼬리 [다음날 00:00, 03:00)
+        LocalDateTime from = T0.plusMinutes(90);
+        LocalDateTime to = T0.plusDays(1).plusHours(3);
+
+        List<TimelineRow> rows = cache.getLogTimeline(from, to, "6 HOUR", "order-api", null);
+
+        assertThat(repository.calls).containsExactlyInAnyOrder(
+                range(from, T0.plusHours(6)),
+                range(T0.plusHours(6), T0.plusDays(1)),
+                range(T0.plusDays(1), to));
+        assertThat(rows).extracting(TimelineRow::time).doesNotHaveDuplicates();
+        assertThat(rows).isEqualTo(repository.expected(from, to, "6 HOUR"));
+    }
+
+    private static LocalDateTime at(int minute, int second) {
+        return T0.plusMinutes(minute).plusSeconds(second);
+    }
+
+    private static List<LocalDateTime> range(LocalDateTime from, LocalDateTime to) {
+        return List.of(from, to);
+    }
+
+    /** 조회 구간을 기록하고, 구간에 걸친 interval 버킷(UTC 정렬)마다 시각에서 값을 유도한 행을 돌려준다. */
+    private static class StubLogRepository extends LogRepository {
+
+        final List<List<LocalDateTime>> calls = new CopyOnWriteArrayList<>();
+
+        StubLogRepository() {
+            super(new JdbcTemplate(), new DefaultListableBeanFactory().getBeanProvider(ClickHouseNativeReader.class));
+        }
+
+        @Override
+        public List<TimelineRow> getLogTimeline(LocalDateTime from, LocalDateTime to,
+                                                 String interval, String service, String env) {
+            calls.add(range(from, to));
+            return expected(from, to, interval);
+        }
+
+        List<TimelineRow> expected(LocalDateTime from, LocalDateTime to) {
+            return expected(from, to, INTERVAL);
+        }
+
+        List<TimelineRow> expected(LocalDateTime from, LocalDateTime to, String interval) {
+            Duration step = TimeUtils.parseInterval(interval);
+            List<TimelineRow> rows = new ArrayList<>();
+            for (LocalDateTime bucket = TimeUtils.floorTo(from, step); bucket.isBefore(to); bucket = bucket.plus(step)) {
+                long minute = Duration.between(T0, bucket).toMinutes();
+                long error = minute % 3;
+                long warn = minute % 5;
+                rows.add(new TimelineRow(TimeUtils.toKst(bucket), minute + 10, error, warn, minute + 10 - error - warn));
+            }
+            return rows;
+        }
+    }
+}
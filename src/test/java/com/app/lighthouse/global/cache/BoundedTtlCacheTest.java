@@ -0,0 +1,72 @@
+package com.app.lighthouse.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedTtlCacheTest {
+
+    private static final Duration LONG_TTL = Duration.ofMinutes(10);
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>("test", 2);
+        cache.put("a", "A", LONG_TTL);
+        cache.put("b", "B", LONG_TTL);
+
+        // a 를 조회해 최근 사용으로 올리면 다음 삽입 때 b 가 밀려난다
+        assertThat(cache.getIfPresent("a")).isEqualTo("A");
+        cache.put("c", "C", LONG_TTL);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getIfPresent("b")).isNull();
+        assertThat(cache.getIfPresent("a")).isEqualTo("A");
+        assertThat(cache.getIfPresent("c")).isEqualTo("C");
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reloadsExpiredEntry() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>("test", 10);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("k", Duration.ZERO, loads::incrementAndGet)).isEqualTo(1);
+        assertThat(cache.getIfPresent("k")).isNull();
+        assertThat(cache.get("k", LONG_TTL, loads::incrementAndGet)).isEqualTo(2);
+        assertThat(cache.get("k", LONG_TTL, loads::incrementAndGet)).isEqualTo(2);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void doesNotCacheLoaderFailure() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>("test", 10);
+
+        assertThatThrownBy(() -> cache.get("k", LONG_TTL, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("k", LONG_TTL, () -> "v")).isEqualTo("v");
+    }
+
+    @Test
+    void invalidateRemovesEntry() {
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>("test", 10);
+        cache.put("a", "A", LONG_TTL);
+        cache.put("b", "B", LONG_TTL);
+
+        cache.invalidate("a");
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.getIfPresent("b")).isEqualTo("B");
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+    }
+}